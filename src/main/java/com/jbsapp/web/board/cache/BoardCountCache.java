@@ -0,0 +1,48 @@
+package com.jbsapp.web.board.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.jbsapp.web.board.repository.BoardColdRepository;
+import com.jbsapp.web.board.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class BoardCountCache {
+
+    // key 는 삭제된 게시글 포함 여부, 값은 board_cold 로 보관된 게시글까지 더한 수
+    private final LoadingCache<Boolean, Long> cache;
+
+    public BoardCountCache(BoardRepository boardRepository,
+                           BoardColdRepository boardColdRepository,
+                           @Value("${board.count.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(expireAfterWrite)
+                .build(includeDeleted -> includeDeleted
+                        ? boardRepository.count() + boardColdRepository.count()
+                        : boardRepository.countByRemoveYnFalse() + boardColdRepository.countByRemoveYnFalse());
+    }
+
+    public long get(boolean includeDeleted) {
+        return cache.get(includeDeleted);
+    }
+
+    // 이 서버에서 게시글 수가 바뀌면 만료를 기다리지 않고 다시 센다
+    public void invalidate() {
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+}
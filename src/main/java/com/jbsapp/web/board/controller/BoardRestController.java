@@ -1,20 +1,38 @@
 package com.jbsapp.web.board.controller;
 
-import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.model.BoardBatchRequest;
+import com.jbsapp.web.board.model.BoardDetail;
 import com.jbsapp.web.board.model.BoardRequest;
+import com.jbsapp.web.board.model.BoardSummary;
 import com.jbsapp.web.board.model.DeleteRequest;
 import com.jbsapp.web.board.service.BoardService;
+import com.jbsapp.web.board.trending.TrendingBoard;
+import com.jbsapp.web.common.importer.ImportResult;
+import com.jbsapp.web.common.model.CursorResponse;
+import com.jbsapp.web.common.util.ETags;
 import com.jbsapp.web.common.util.WebResponseEntity;
+import com.jbsapp.web.security.RoleType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,23 +43,126 @@ public class BoardRestController {
   private final BoardService boardService;
 
     @GetMapping("")
-    public ResponseEntity<?> findAll(Pageable pageable) {
+    public ResponseEntity<?> findAll(Authentication authentication, Pageable pageable,
+                                     @RequestParam(defaultValue = "false") boolean includeDeleted,
+                                     WebRequest webRequest) {
 
-        Page<Board> boards = boardService.findAll(pageable);
+        Page<BoardSummary> boards = boardService.findAll(pageable, includeDeleted && isAdmin(authentication));
+
+        // 목록 내용이 같으면 직렬화 없이 304 를 응답한다
+        String eTag = ETags.strong(boards.getTotalElements(), boards.getNumber(), boards.getSize(), boards.getContent());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return WebResponseEntity.OK(boards);
+    }
+
+    @GetMapping(value = "", params = "mode=slice")
+    public ResponseEntity<?> findAllBySlice(Authentication authentication, Pageable pageable,
+                                            @RequestParam(defaultValue = "false") boolean includeDeleted) {
+
+        Slice<BoardSummary> boards = boardService.findAllBySlice(pageable, includeDeleted && isAdmin(authentication));
+
+        return WebResponseEntity.OK(boards);
+    }
+
+    @GetMapping(value = "", params = "mode=cursor")
+    public ResponseEntity<?> findAllByCursor(@RequestParam(required = false) String after,
+                                             @RequestParam(required = false) String before,
+                                             @RequestParam(defaultValue = "20") int size,
+                                             @RequestParam(defaultValue = "false") boolean includeDeleted,
+                                             Authentication authentication,
+                                             WebRequest webRequest) {
+
+        CursorResponse<BoardSummary> boards = boardService.findAllByCursor(after, before, size, includeDeleted && isAdmin(authentication));
+
+        String eTag = ETags.strong(boards.getNextCursor(), boards.getPreviousCursor(), boards.getContent());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return WebResponseEntity.OK(boards);
+    }
+
+    @GetMapping(value = "", params = "writer")
+    public ResponseEntity<?> findAllByWriter(@RequestParam String writer,
+                                             @RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<BoardSummary> boards = boardService.findAllByWriter(writer, after, size);
 
         return WebResponseEntity.OK(boards);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam(required = false) String q, Pageable pageable) {
+
+        Page<BoardSummary> boards = boardService.search(q, pageable);
+
+        return WebResponseEntity.OK(boards);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+
+        StreamingResponseBody body = boardService::export;
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<?> trending() {
+
+        List<TrendingBoard> boards = boardService.trending();
+
+        return WebResponseEntity.OK(boards);
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> cacheStats() {
+
+        Map<String, Object> stats = boardService.cacheStats();
+
+        return WebResponseEntity.OK(stats);
+    }
+
+    @GetMapping("/purge/stats")
+    public ResponseEntity<?> purgeStats() {
+
+        Map<String, Object> stats = boardService.purgeStats();
+
+        return WebResponseEntity.OK(stats);
+    }
+
+    @GetMapping("/content/stats")
+    public ResponseEntity<?> contentStats() {
+
+        Map<String, Object> stats = boardService.contentStats();
+
+        return WebResponseEntity.OK(stats);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> findOne(@PathVariable Long id) {
+    public ResponseEntity<?> findOne(@PathVariable Long id, WebRequest webRequest) {
 
-        Board board = boardService.findOne(id);
+        BoardDetail board = boardService.findOne(id);
+
+        // 조회수는 이 요청에서도 늘어나므로 태그에 넣으면 304 가 나올 수 없어 재검증 대상에서 일부러 뺀다
+        // 본문의 조회수가 달라도 같은 태그를 쓰므로 strong 이 아닌 weak ETag 이고, 304 를 받으면 클라이언트가 가진 조회수를 그대로 쓴다
+        LocalDateTime modifiedDate = board.getBoard().getModifiedDate();
+        String eTag = ETags.weak(id, board.getBoard().getVersion(), modifiedDate);
+        if (webRequest.checkNotModified(eTag, modifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())) {
+            return null;
+        }
 
         return WebResponseEntity.OK(board);
     }
 
     @PostMapping("")
-    public ResponseEntity<?> create(Authentication authentication, @Valid @RequestBody BoardRequest request, BindingResult bindingResult) {
+    public CompletableFuture<ResponseEntity<?>> create(Authentication authentication, @Valid @RequestBody BoardRequest request, BindingResult bindingResult) {
 
         String username;
         if (authentication == null) {
@@ -50,13 +171,34 @@ public class BoardRestController {
             username = authentication.getName();
         }
 
-        Board board = boardService.create(request, username);
+        return boardService.create(request, username)
+                .thenApply(WebResponseEntity::OK);
+    }
 
-        return WebResponseEntity.OK(board);
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<?>> createAll(Authentication authentication, @Valid @RequestBody BoardBatchRequest request, BindingResult bindingResult) {
+
+        String username;
+        if (authentication == null) {
+            username = "anonymous";
+        } else {
+            username = authentication.getName();
+        }
+
+        return boardService.createAll(request.getBoards(), username)
+                .thenApply(WebResponseEntity::OK);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> importBoards(Authentication authentication, InputStream body) {
+
+        ImportResult result = boardService.importBoards(body, authentication.getName());
+
+        return WebResponseEntity.OK(result);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> update(Authentication authentication, @Valid @RequestBody BoardRequest request, BindingResult bindingResult, @PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<?>> update(Authentication authentication, @Valid @RequestBody BoardRequest request, BindingResult bindingResult, @PathVariable Long id) {
 
         String username;
         if (authentication == null) {
@@ -65,13 +207,12 @@ public class BoardRestController {
             username = authentication.getName();
         }
 
-        Board board = boardService.update(request, username, id);
-
-        return WebResponseEntity.OK(board);
+        return boardService.update(request, username, id)
+                .thenApply(WebResponseEntity::OK);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(Authentication authentication, @Valid @RequestBody DeleteRequest request, BindingResult bindingResult, @PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<?>> delete(Authentication authentication, @Valid @RequestBody DeleteRequest request, BindingResult bindingResult, @PathVariable Long id) {
 
         String username;
         if (authentication == null) {
@@ -80,9 +221,18 @@ public class BoardRestController {
             username = authentication.getName();
         }
 
-        Board board = boardService.delete(request, username, id);
+        return boardService.delete(request, username, id)
+                .thenApply(WebResponseEntity::OK);
+    }
+
+    // 삭제된 게시글 조회는 관리자에게만 허용한다
+    private boolean isAdmin(Authentication authentication) {
+        if (authentication == null) {
+            return false;
+        }
 
-        return WebResponseEntity.OK(board);
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> RoleType.ADMIN.getValue().equals(authority.getAuthority()));
     }
 
 }
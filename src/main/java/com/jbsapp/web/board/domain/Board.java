@@ -1,7 +1,11 @@
 package com.jbsapp.web.board.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jbsapp.web.common.converter.CompressedTextConverter;
 import com.jbsapp.web.common.domain.Time;
 import lombok.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 
 import javax.persistence.*;
 
@@ -12,16 +16,31 @@ import javax.persistence.*;
 @Builder
 @ToString
 @Entity
+// 삭제 여부 조건이 없는 관리자용 목록은 (createdDate, id), 일반 목록은 (removeYn, createdDate, id) 인덱스로 읽는다
+@Table(indexes = {
+        @Index(name = "idx_board_created_date_id", columnList = "createdDate, id"),
+        @Index(name = "idx_board_remove_yn_created_date_id", columnList = "removeYn, createdDate, id"),
+        @Index(name = "idx_board_remove_yn_modified_date", columnList = "removeYn, modifiedDate"),
+        @Index(name = "idx_board_writer_remove_yn_created_date_id", columnList = "writer, removeYn, createdDate, id")
+})
+@FilterDef(name = Board.DELETED_FILTER, defaultCondition = "remove_yn = false")
+@Filter(name = Board.DELETED_FILTER)
 public class Board extends Time {
 
+    public static final String DELETED_FILTER = "deletedBoardFilter";
+
+    // IDENTITY 는 insert 배치를 막으므로 시퀀스에서 50개씩 미리 할당받는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq_generator")
+    @SequenceGenerator(name = "board_seq_generator", sequenceName = "board_seq", allocationSize = 50)
     private long id;
 
     @Column
     private String title;
 
-    @Column
+    // 2000자 * 3바이트 + 헤더, 256바이트를 넘으면 압축해서 저장한다
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = 6100)
     private String content;
 
     @Column
@@ -33,4 +52,13 @@ public class Board extends Time {
     @Column
     private boolean removeYn;
 
+    // 동시에 수정하면 나중에 반영하는 쪽이 충돌로 실패한다
+    @Version
+    private long version;
+
+    // 조회수는 BoardViewCounter 가 SQL 로 직접 더하므로 엔티티 수정 시에는 덮어쓰지 않는다
+    @JsonIgnore
+    @Column(updatable = false)
+    private long views;
+
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.jbsapp.web.board.domain;
+
+import com.jbsapp.web.common.converter.CompressedTextConverter;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@ToString
+@Entity
+@Table(name = "board_archive")
+public class BoardArchive {
+
+    // 원본 게시글의 식별자를 그대로 사용한다
+    @Id
+    private long id;
+
+    @Column
+    private String title;
+
+    // 2000자 * 3바이트 + 헤더, 256바이트를 넘으면 압축해서 저장한다
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = 6100)
+    private String content;
+
+    @Column
+    private String writer;
+
+    @Column
+    private String password;
+
+    @Column
+    private LocalDateTime createdDate;
+
+    @Column
+    private LocalDateTime modifiedDate;
+
+    @Column
+    private LocalDateTime archivedDate;
+
+}
@@ -0,0 +1,74 @@
+package com.jbsapp.web.board.domain;
+
+import com.jbsapp.web.common.converter.CompressedTextConverter;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@ToString
+@Entity
+@Immutable
+@Table(name = "board_cold", indexes = {
+        @Index(name = "idx_board_cold_partition_month", columnList = "partitionMonth"),
+        @Index(name = "idx_board_cold_created_date_id", columnList = "createdDate, id"),
+        @Index(name = "idx_board_cold_writer_remove_yn_created_date_id", columnList = "writer, removeYn, createdDate, id")
+})
+public class BoardCold {
+
+    // 원본 게시글의 식별자를 그대로 사용한다
+    @Id
+    private long id;
+
+    @Column
+    private String title;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = 6100)
+    private String content;
+
+    @Column
+    private String writer;
+
+    @Column
+    private String password;
+
+    @Column
+    private boolean removeYn;
+
+    @Column
+    private long views;
+
+    @Column
+    private LocalDateTime createdDate;
+
+    @Column
+    private LocalDateTime modifiedDate;
+
+    // 작성 월 (yyyyMM)
+    @Column
+    private int partitionMonth;
+
+    @Column
+    private LocalDateTime archivedDate;
+
+    // 보관된 게시글은 읽기 전용으로만 보여준다
+    public Board toBoard() {
+        Board board = Board.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .writer(writer)
+                .password(password)
+                .removeYn(removeYn)
+                .views(views)
+                .build();
+        board.initTime(createdDate, modifiedDate);
+
+        return board;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.jbsapp.web.board.migration;
+
+import com.jbsapp.web.common.converter.CompressedTextConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// db/board-content-compression.sql 로 컬럼을 바이너리로 바꾼 뒤, 헤더가 없는 기존 원문을 압축 형식으로 다시 쓴다
+@Slf4j
+@Component
+public class BoardContentMigration {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean migrateOnStartup;
+
+    public BoardContentMigration(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${board.content.migrate-on-startup:false}") boolean migrateOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrateOnStartup) {
+            migrate("board");
+            migrate("board_archive");
+        }
+    }
+
+    public long migrate(String table) {
+        long start = System.currentTimeMillis();
+        long lastId = 0;
+        long migrated = 0;
+
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(
+                    "SELECT id, content FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?", lastId, CHUNK_SIZE);
+
+            migrated += rewrite(table, rows);
+
+            if (!rows.isEmpty()) {
+                lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            }
+        } while (rows.size() == CHUNK_SIZE);
+
+        log.info("{} content migrated : {} rows in {}ms", table, migrated, System.currentTimeMillis() - start);
+
+        return migrated;
+    }
+
+    // 서비스 중에 실행되므로 읽은 뒤 사용자가 수정한 행을 예전 본문으로 덮어쓰지 않도록 읽은 값 그대로일 때만 바꾼다
+    // 바뀌지 않은 행은 다시 읽어 아직 예전 형식인 것만 다시 시도한다
+    private long rewrite(String table, List<Map<String, Object>> rows) {
+        long migrated = 0;
+
+        List<Object[]> updates = legacyUpdates(rows);
+        for (int attempt = 1; !updates.isEmpty(); attempt++) {
+            if (attempt > MAX_ATTEMPTS) {
+                log.warn("{} content migration skipped {} rows modified during migration", table, updates.size());
+                break;
+            }
+
+            List<Object[]> batch = updates;
+            int[] counts = transactionTemplate.execute(status ->
+                    jdbcTemplate.batchUpdate("UPDATE " + table + " SET content = ? WHERE id = ? AND content = ?", batch));
+
+            updates = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (counts[i] == 1) {
+                    migrated++;
+                    continue;
+                }
+
+                List<Map<String, Object>> current = jdbcTemplate.queryForList(
+                        "SELECT id, content FROM " + table + " WHERE id = ?", batch.get(i)[1]);
+                List<Object[]> retry = legacyUpdates(current);
+
+                if (!retry.isEmpty()) {
+                    updates.addAll(retry);
+                } else if (counts[i] == Statement.SUCCESS_NO_INFO && !current.isEmpty()) {
+                    // 드라이버가 반영 건수를 알려주지 않으면 다시 읽어서 바뀐 것을 확인한다
+                    migrated++;
+                }
+            }
+        }
+
+        return migrated;
+    }
+
+    private List<Object[]> legacyUpdates(List<Map<String, Object>> rows) {
+        List<Object[]> updates = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            byte[] content = (byte[]) row.get("content");
+
+            if (CompressedTextConverter.isLegacy(content)) {
+                String text = new String(content, StandardCharsets.UTF_8);
+                updates.add(new Object[]{converter.convertToDatabaseColumn(text), row.get("id"), content});
+            }
+        }
+
+        return updates;
+    }
+
+}
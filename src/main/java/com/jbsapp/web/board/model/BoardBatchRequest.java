@@ -0,0 +1,21 @@
+package com.jbsapp.web.board.model;
+
+import lombok.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BoardBatchRequest {
+
+    @NotEmpty(message = "등록할 게시글을 입력해주세요.")
+    @Size(max = 1000, message = "게시글은 한번에 1000개까지 등록할 수 있습니다.")
+    private List<@Valid BoardRequest> boards;
+
+}
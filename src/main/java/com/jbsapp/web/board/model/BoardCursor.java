@@ -0,0 +1,49 @@
+package com.jbsapp.web.board.model;
+
+import com.jbsapp.web.common.exception.WebException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class BoardCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdDate;
+
+    private final long id;
+
+    public static BoardCursor of(BoardSummary board) {
+        return new BoardCursor(board.getCreatedDate(), board.getId());
+    }
+
+    public static BoardCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+
+            return new BoardCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new WebException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.jbsapp.web.board.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.jbsapp.web.board.domain.Board;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+// 캐시된 Board 는 여러 요청이 공유하므로 조회수는 따로 담아 응답한다
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class BoardDetail {
+
+    @JsonUnwrapped
+    private final Board board;
+
+    private final long views;
+
+}
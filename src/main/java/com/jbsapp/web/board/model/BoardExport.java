@@ -0,0 +1,39 @@
+package com.jbsapp.web.board.model;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+public class BoardExport {
+
+    private final long id;
+
+    private final String title;
+
+    private final String content;
+
+    private final String writer;
+
+    private final long views;
+
+    private final LocalDateTime createdDate;
+
+    private final LocalDateTime modifiedDate;
+
+    @QueryProjection
+    public BoardExport(long id, String title, String content, String writer, long views,
+                       LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.writer = writer;
+        this.views = views;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.jbsapp.web.board.model;
+
+import com.jbsapp.web.board.domain.Board;
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+public class BoardSummary {
+
+    private final long id;
+
+    private final String title;
+
+    private final String writer;
+
+    private final LocalDateTime createdDate;
+
+    private final boolean removeYn;
+
+    private long views;
+
+    @QueryProjection
+    public BoardSummary(long id, String title, String writer, LocalDateTime createdDate, boolean removeYn, long views) {
+        this.id = id;
+        this.title = title;
+        this.writer = writer;
+        this.createdDate = createdDate;
+        this.removeYn = removeYn;
+        this.views = views;
+    }
+
+    public static BoardSummary of(Board board) {
+        return new BoardSummary(board.getId(), board.getTitle(), board.getWriter(), board.getCreatedDate(), board.isRemoveYn(), board.getViews());
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수를 더한다
+    public void addViews(long pending) {
+        this.views += pending;
+    }
+
+}
@@ -16,4 +16,7 @@ public class DeleteRequest {
     @Pattern(regexp="(?=.*[0-9]).{6}", message = "비밀번호는 숫자 6자리를 입력해주세요.")
     private String password;
 
+    // 조회한 시점의 버전, 지정하면 그 이후에 다른 수정이 있었을 때 409 로 실패한다
+    private Long version;
+
 }
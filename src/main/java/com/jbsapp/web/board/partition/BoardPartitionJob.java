@@ -0,0 +1,301 @@
+package com.jbsapp.web.board.partition;
+
+import com.jbsapp.web.board.cache.BoardCountCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 최근 몇 달의 게시글만 board 에 남기고, 오래된 달은 읽기 전용 board_cold 로 옮긴다
+// MySQL 에서 board 가 월 단위 파티션 테이블이면 파티션째 옮기고 DROP 하며, 그 외에는 행을 조금씩 옮긴다
+// 보관된 게시글도 검색 색인에는 남겨두므로 색인에서 지우지 않는다
+@Slf4j
+@Component
+public class BoardPartitionJob {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String COLUMNS = "id, title, content, writer, password, remove_yn, views, created_date, modified_date";
+
+    private static final String COLD_INSERT = "INSERT INTO board_cold (" + COLUMNS + ", partition_month, archived_date)"
+            + " SELECT " + COLUMNS + ", YEAR(created_date) * 100 + MONTH(created_date), :archivedDate FROM ";
+
+    // 파티션을 EXCHANGE 로 떼어내 옮기는 동안 보관하는 파티션 없는 board 복사본
+    private static final String STAGING = "board_archive_staging";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BoardCountCache boardCountCache;
+
+    private final int hotMonths;
+
+    private final int chunkSize;
+
+    private final Duration throttle;
+
+    private Boolean nativePartitioning;
+
+    public BoardPartitionJob(NamedParameterJdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             BoardCountCache boardCountCache,
+                             @Value("${board.partition.hot-months:3}") int hotMonths,
+                             @Value("${board.partition.chunk-size:500}") int chunkSize,
+                             @Value("${board.partition.throttle:100ms}") Duration throttle) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.boardCountCache = boardCountCache;
+        this.hotMonths = hotMonths;
+        this.chunkSize = chunkSize;
+        this.throttle = throttle;
+    }
+
+    @Scheduled(cron = "${board.partition.cron:0 30 3 * * *}")
+    public void run() {
+        YearMonth current = YearMonth.now();
+
+        if (isNativePartitioning()) {
+            addPartition(current);
+            addPartition(current.plusMonths(1));
+        }
+
+        archive(current.minusMonths(hotMonths - 1));
+    }
+
+    // firstHotMonth 이전에 작성된 게시글을 board_cold 로 옮긴다
+    public long archive(YearMonth firstHotMonth) {
+        long startedAt = System.nanoTime();
+
+        long archived = isNativePartitioning()
+                ? archivePartitions(firstHotMonth)
+                : archiveRows(firstHotMonth.atDay(1).atStartOfDay());
+
+        if (archived > 0) {
+            boardCountCache.invalidate();
+        }
+
+        log.info("partition board : archived={} before {}, elapsed={}ms",
+                archived, firstHotMonth, (System.nanoTime() - startedAt) / 1_000_000);
+
+        return archived;
+    }
+
+    // 파티션을 복사하는 동안 수정, 삭제, 조회수 반영이 들어오면 DROP 과 함께 사라지므로
+    // 먼저 EXCHANGE PARTITION 으로 행을 board 에서 한 번에 떼어낸 뒤 옮긴다
+    // 그 이후의 쓰기는 board 에서 행을 찾지 못해 실패로 드러나고 조용히 유실되지 않는다
+    private long archivePartitions(YearMonth firstHotMonth) {
+        String firstHotPartition = firstHotMonth.format(PARTITION_NAME);
+
+        prepareStaging();
+
+        // 이전 실행이 떼어낸 뒤 옮기지 못한 행이 남아있으면 먼저 마저 옮긴다
+        long archived = countStaging() > 0 ? moveStaging() : 0;
+        if (archived < 0) {
+            log.error("partition board : {} still has rows from a previous run, archive skipped", STAGING);
+            return 0;
+        }
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions"
+                        + " WHERE table_schema = DATABASE() AND table_name = 'board'"
+                        + " AND partition_name <> 'pmax' AND partition_name < :firstHotPartition"
+                        + " ORDER BY partition_name",
+                new MapSqlParameterSource("firstHotPartition", firstHotPartition),
+                String.class);
+
+        for (String partition : partitions) {
+            exchange(partition);
+
+            long moved = moveStaging();
+            if (moved < 0) {
+                // 옮기지 못한 행은 원래 파티션으로 되돌린다
+                exchange(partition);
+                log.error("partition board : {} not dropped, rows returned to board", partition);
+                continue;
+            }
+
+            // 파티션은 이미 비어있으므로 DROP 해도 잃는 행이 없다
+            jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE board DROP PARTITION " + partition);
+
+            archived += moved;
+        }
+
+        return archived;
+    }
+
+    // board 와 같은 구조의 파티션 없는 테이블이어야 EXCHANGE 할 수 있다
+    private void prepareStaging() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = :table",
+                new MapSqlParameterSource("table", STAGING),
+                Integer.class);
+
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE " + STAGING + " LIKE board");
+        jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE " + STAGING + " REMOVE PARTITIONING");
+    }
+
+    private void exchange(String partition) {
+        jdbcTemplate.getJdbcTemplate().execute(
+                "ALTER TABLE board EXCHANGE PARTITION " + partition + " WITH TABLE " + STAGING);
+    }
+
+    private long countStaging() {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + STAGING, new MapSqlParameterSource(), Long.class);
+
+        return rows == null ? 0 : rows;
+    }
+
+    // 떼어낸 행을 board_cold 로 복사하고, 모두 복사된 것을 확인한 뒤에만 비운다
+    // 확인에 실패하면 이번에 복사한 행을 지우고 -1 을 반환한다
+    private long moveStaging() {
+        // 중간에 실패해 다시 실행되더라도 이미 옮긴 행만 건너뛴다
+        // IGNORE 는 변환 오류까지 숨기므로 쓰지 않는다
+        jdbcTemplate.update(
+                COLD_INSERT + STAGING + " b WHERE NOT EXISTS (SELECT 1 FROM board_cold c WHERE c.id = b.id)",
+                new MapSqlParameterSource("archivedDate", LocalDateTime.now()));
+
+        long rows = countStaging();
+        Long copied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + STAGING + " b JOIN board_cold c ON c.id = b.id",
+                new MapSqlParameterSource(), Long.class);
+
+        if (copied == null || rows != copied) {
+            log.error("partition board : copied {} of {} rows from {}", copied, rows, STAGING);
+            jdbcTemplate.update("DELETE FROM board_cold WHERE id IN (SELECT id FROM " + STAGING + ")",
+                    new MapSqlParameterSource());
+            return -1;
+        }
+
+        jdbcTemplate.getJdbcTemplate().execute("TRUNCATE TABLE " + STAGING);
+
+        return rows;
+    }
+
+    private long archiveRows(LocalDateTime cutoff) {
+        long archived = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM board WHERE created_date < :cutoff AND id > :lastId ORDER BY id LIMIT :limit",
+                    new MapSqlParameterSource()
+                            .addValue("cutoff", cutoff)
+                            .addValue("lastId", lastId)
+                            .addValue("limit", chunkSize),
+                    Long.class);
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer moved = transactionTemplate.execute(status -> {
+                // 복사와 삭제 사이에 들어온 수정, 삭제, 조회수 반영이 유실되지 않도록 옮길 행을 먼저 잠근다
+                List<Long> locked = jdbcTemplate.queryForList(
+                        "SELECT id FROM board WHERE id IN (:ids) AND created_date < :cutoff FOR UPDATE",
+                        new MapSqlParameterSource()
+                                .addValue("ids", ids)
+                                .addValue("cutoff", cutoff),
+                        Long.class);
+
+                if (locked.isEmpty()) {
+                    return 0;
+                }
+
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("ids", locked)
+                        .addValue("archivedDate", LocalDateTime.now());
+
+                int copied = jdbcTemplate.update(COLD_INSERT + "board WHERE id IN (:ids)", params);
+                int deleted = jdbcTemplate.update("DELETE FROM board WHERE id IN (:ids)", params);
+
+                // 옮긴 행과 지운 행이 다르면 되돌린다
+                if (copied != deleted) {
+                    throw new IllegalStateException("board_cold copied " + copied + " rows but deleted " + deleted);
+                }
+
+                return deleted;
+            });
+
+            archived += moved == null ? 0 : moved;
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize || !sleep()) {
+                break;
+            }
+        }
+
+        return archived;
+    }
+
+    // 다음 달 파티션을 미리 만들어 두지 않으면 새 글이 모두 pmax 에 쌓인다
+    private void addPartition(YearMonth month) {
+        String partition = month.format(PARTITION_NAME);
+
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.partitions"
+                        + " WHERE table_schema = DATABASE() AND table_name = 'board' AND partition_name = :partition",
+                new MapSqlParameterSource("partition", partition),
+                Integer.class);
+
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE board REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION " + partition + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+
+        log.info("partition board : added {}", partition);
+    }
+
+    private boolean isNativePartitioning() {
+        if (nativePartitioning == null) {
+            nativePartitioning = detectNativePartitioning();
+        }
+
+        return nativePartitioning;
+    }
+
+    private boolean detectNativePartitioning() {
+        String product = jdbcTemplate.getJdbcTemplate().execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+        if (!"MySQL".equals(product)) {
+            return false;
+        }
+
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.partitions"
+                        + " WHERE table_schema = DATABASE() AND table_name = 'board' AND partition_name = 'pmax'",
+                new MapSqlParameterSource(),
+                Integer.class);
+
+        return partitions != null && partitions > 0;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
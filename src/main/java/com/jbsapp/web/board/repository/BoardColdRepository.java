@@ -0,0 +1,15 @@
+package com.jbsapp.web.board.repository;
+
+import com.jbsapp.web.board.domain.BoardCold;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface BoardColdRepository extends JpaRepository<BoardCold, Long>, BoardColdRepositoryCustom {
+
+    List<BoardCold> findByIdGreaterThanAndRemoveYnFalseOrderByIdAsc(long id, Pageable pageable);
+
+    long countByRemoveYnFalse();
+
+}
@@ -0,0 +1,26 @@
+package com.jbsapp.web.board.repository;
+
+import com.jbsapp.web.board.model.BoardCursor;
+import com.jbsapp.web.board.model.BoardExport;
+import com.jbsapp.web.board.model.BoardSummary;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BoardColdRepositoryCustom {
+
+    List<BoardSummary> findSummaries(Sort sort, long offset, int limit, boolean includeDeleted);
+
+    List<BoardSummary> findSummariesByIds(Collection<Long> ids);
+
+    List<BoardSummary> findAllAfter(BoardCursor after, int limit, boolean includeDeleted);
+
+    List<BoardSummary> findAllBefore(BoardCursor before, int limit, boolean includeDeleted);
+
+    List<BoardSummary> findAllByWriterAfter(String writer, BoardCursor after, int limit);
+
+    Stream<BoardExport> streamForExport(int fetchSize);
+
+}
@@ -0,0 +1,134 @@
+package com.jbsapp.web.board.repository;
+
+import com.jbsapp.web.board.domain.BoardCold;
+import com.jbsapp.web.board.model.BoardCursor;
+import com.jbsapp.web.board.model.BoardExport;
+import com.jbsapp.web.board.model.BoardSummary;
+import com.jbsapp.web.board.model.QBoardExport;
+import com.jbsapp.web.board.model.QBoardSummary;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.jbsapp.web.board.domain.QBoardCold.boardCold;
+
+// board_cold 에는 Hibernate 필터가 걸려있지 않으므로 삭제 여부 조건을 직접 붙인다
+@RequiredArgsConstructor
+public class BoardColdRepositoryImpl implements BoardColdRepositoryCustom {
+
+    private static final QBoardSummary SUMMARY = new QBoardSummary(
+            boardCold.id, boardCold.title, boardCold.writer, boardCold.createdDate, boardCold.removeYn, boardCold.views);
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<BoardSummary> findSummaries(Sort sort, long offset, int limit, boolean includeDeleted) {
+        JPAQuery<BoardSummary> query = queryFactory
+                .select(SUMMARY)
+                .from(boardCold)
+                .where(notDeleted(includeDeleted))
+                .offset(offset)
+                .limit(limit);
+
+        query.orderBy(BoardSort.toOrders(new PathBuilder<>(BoardCold.class, boardCold.getMetadata()), sort));
+
+        return query.fetch();
+    }
+
+    // 검색 결과처럼 식별자로 고른 게시글 중 삭제되지 않은 것만 조회한다
+    @Override
+    public List<BoardSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .select(SUMMARY)
+                .from(boardCold)
+                .where(boardCold.id.in(ids), boardCold.removeYn.isFalse())
+                .fetch();
+    }
+
+    @Override
+    public List<BoardSummary> findAllAfter(BoardCursor after, int limit, boolean includeDeleted) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(boardCold)
+                .where(olderThan(after), notDeleted(includeDeleted))
+                .orderBy(boardCold.createdDate.desc(), boardCold.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardSummary> findAllBefore(BoardCursor before, int limit, boolean includeDeleted) {
+        List<BoardSummary> boards = queryFactory
+                .select(SUMMARY)
+                .from(boardCold)
+                .where(newerThan(before), notDeleted(includeDeleted))
+                .orderBy(boardCold.createdDate.asc(), boardCold.id.asc())
+                .limit(limit)
+                .fetch();
+
+        Collections.reverse(boards);
+
+        return boards;
+    }
+
+    @Override
+    public List<BoardSummary> findAllByWriterAfter(String writer, BoardCursor after, int limit) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(boardCold)
+                .where(boardCold.writer.eq(writer), boardCold.removeYn.isFalse(), olderThan(after))
+                .orderBy(boardCold.createdDate.desc(), boardCold.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<BoardExport> streamForExport(int fetchSize) {
+        return queryFactory
+                .select(new QBoardExport(
+                        boardCold.id, boardCold.title, boardCold.content, boardCold.writer, boardCold.views,
+                        boardCold.createdDate, boardCold.modifiedDate))
+                .from(boardCold)
+                .where(boardCold.removeYn.isFalse())
+                .orderBy(boardCold.id.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .stream();
+    }
+
+    private BooleanExpression notDeleted(boolean includeDeleted) {
+        return includeDeleted ? null : boardCold.removeYn.isFalse();
+    }
+
+    private BooleanExpression olderThan(BoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return boardCold.createdDate.lt(cursor.getCreatedDate())
+                .or(boardCold.createdDate.eq(cursor.getCreatedDate()).and(boardCold.id.lt(cursor.getId())));
+    }
+
+    private BooleanExpression newerThan(BoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return boardCold.createdDate.gt(cursor.getCreatedDate())
+                .or(boardCold.createdDate.eq(cursor.getCreatedDate()).and(boardCold.id.gt(cursor.getId())));
+    }
+
+}
@@ -1,8 +1,25 @@
 package com.jbsapp.web.board.repository;
 
 import com.jbsapp.web.board.domain.Board;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BoardRepository extends JpaRepository<Board, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
+
+    List<Board> findByIdGreaterThanAndRemoveYnFalseOrderByIdAsc(long id, Pageable pageable);
+
+    long countByRemoveYnFalse();
+
+    // 조회 없이 한 번의 UPDATE 로 삭제하며, 그 사이 다른 수정이 있었다면 0을 반환한다
+    @Modifying(clearAutomatically = true)
+    @Query("update Board b set b.removeYn = true, b.version = b.version + 1, b.modifiedDate = :now " +
+            "where b.id = :id and b.version = :version and b.removeYn = false")
+    int softDelete(@Param("id") long id, @Param("version") long version, @Param("now") LocalDateTime now);
 
 }
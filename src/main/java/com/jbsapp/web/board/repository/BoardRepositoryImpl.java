@@ -0,0 +1,132 @@
+package com.jbsapp.web.board.repository;
+
+import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.model.BoardCursor;
+import com.jbsapp.web.board.model.BoardExport;
+import com.jbsapp.web.board.model.BoardSummary;
+import com.jbsapp.web.board.model.QBoardExport;
+import com.jbsapp.web.board.model.QBoardSummary;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.jbsapp.web.board.domain.QBoard.board;
+
+@RequiredArgsConstructor
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    // 목록에서는 content, password 를 조회하지 않는다
+    private static final QBoardSummary SUMMARY = new QBoardSummary(
+            board.id, board.title, board.writer, board.createdDate, board.removeYn, board.views);
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<BoardSummary> findSummaries(Sort sort, long offset, int limit) {
+        JPAQuery<BoardSummary> query = queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .offset(offset)
+                .limit(limit);
+
+        query.orderBy(BoardSort.toOrders(new PathBuilder<>(Board.class, board.getMetadata()), sort));
+
+        return query.fetch();
+    }
+
+    @Override
+    public List<BoardSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .where(board.id.in(ids))
+                .fetch();
+    }
+
+    // 최신글부터 (createdDate, id) 내림차순, 커서보다 오래된 글
+    @Override
+    public List<BoardSummary> findAllAfter(BoardCursor after, int limit) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .where(olderThan(after))
+                .orderBy(board.createdDate.desc(), board.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 커서보다 최신인 글을 오름차순으로 읽은 뒤 뒤집어서 내림차순으로 반환
+    @Override
+    public List<BoardSummary> findAllBefore(BoardCursor before, int limit) {
+        List<BoardSummary> boards = queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .where(newerThan(before))
+                .orderBy(board.createdDate.asc(), board.id.asc())
+                .limit(limit)
+                .fetch();
+
+        Collections.reverse(boards);
+
+        return boards;
+    }
+
+    // (writer, removeYn, createdDate, id) 인덱스만으로 처리되도록 식별자만 조회한다
+    @Override
+    public List<Long> findIdsByWriterAfter(String writer, BoardCursor after, int limit) {
+        return queryFactory
+                .select(board.id)
+                .from(board)
+                .where(board.writer.eq(writer), board.removeYn.isFalse(), olderThan(after))
+                .orderBy(board.createdDate.desc(), board.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression olderThan(BoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return board.createdDate.lt(cursor.getCreatedDate())
+                .or(board.createdDate.eq(cursor.getCreatedDate()).and(board.id.lt(cursor.getId())));
+    }
+
+    private BooleanExpression newerThan(BoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return board.createdDate.gt(cursor.getCreatedDate())
+                .or(board.createdDate.eq(cursor.getCreatedDate()).and(board.id.gt(cursor.getId())));
+    }
+
+    // 엔티티가 아닌 프로젝션을 forward-only 커서로 읽으므로 영속성 컨텍스트에 쌓이지 않는다
+    @Override
+    public Stream<BoardExport> streamForExport(int fetchSize) {
+        return queryFactory
+                .select(new QBoardExport(
+                        board.id, board.title, board.content, board.writer, board.views,
+                        board.createdDate, board.modifiedDate))
+                .from(board)
+                .where(board.removeYn.isFalse())
+                .orderBy(board.id.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .stream();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.jbsapp.web.board.repository;
+
+import com.jbsapp.web.common.exception.BadRequestException;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+// 클라이언트가 보낸 정렬 기준은 목록에 노출되는 컬럼만 허용한다 (password 등 다른 컬럼으로 정렬할 수 없다)
+final class BoardSort {
+
+    private static final Set<String> SORTABLE = Set.of("createdDate", "modifiedDate", "id", "title");
+
+    private BoardSort() {
+    }
+
+    static OrderSpecifier<?>[] toOrders(PathBuilder<?> path, Sort sort) {
+        return sort.stream()
+                .map(order -> {
+                    if (!SORTABLE.contains(order.getProperty())) {
+                        throw new BadRequestException("정렬할 수 없는 항목입니다. (" + order.getProperty() + ")");
+                    }
+
+                    return new OrderSpecifier<>(
+                            order.isAscending() ? Order.ASC : Order.DESC,
+                            path.getComparable(order.getProperty(), Comparable.class));
+                })
+                .toArray(OrderSpecifier[]::new);
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.jbsapp.web.board.search;
+
+import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.domain.BoardCold;
+import com.jbsapp.web.board.repository.BoardColdRepository;
+import com.jbsapp.web.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final Comparator<SearchHit> RANKING = Comparator
+            .comparingDouble(SearchHit::getScore)
+            .thenComparingLong(SearchHit::getId);
+
+    private final BoardRepository boardRepository;
+
+    private final BoardColdRepository boardColdRepository;
+
+    // term -> (게시글 id -> 가중치가 적용된 출현 횟수)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalLength = new AtomicLong();
+
+    // 재구축 중에 실시간으로 반영된 게시글, 재구축 중이 아니면 null
+    // 재구축이 먼저 읽어둔 예전 내용으로 방금 수정되거나 삭제된 게시글을 덮어쓰지 않기 위해 사용한다
+    private volatile Set<Long> updatedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    // board_cold 로 보관된 게시글도 검색되도록 함께 색인한다
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+
+        Set<Long> updated = ConcurrentHashMap.newKeySet();
+        updatedDuringRebuild = updated;
+        try {
+            long lastId = 0;
+            List<Board> chunk;
+            do {
+                chunk = boardRepository.findByIdGreaterThanAndRemoveYnFalseOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                chunk.parallelStream().forEach(board -> apply(board.getId(), board.getTitle(), board.getContent(), updated));
+
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                    count += chunk.size();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            lastId = 0;
+            List<BoardCold> archived;
+            do {
+                archived = boardColdRepository.findByIdGreaterThanAndRemoveYnFalseOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                archived.parallelStream().forEach(board -> apply(board.getId(), board.getTitle(), board.getContent(), updated));
+
+                if (!archived.isEmpty()) {
+                    lastId = archived.get(archived.size() - 1).getId();
+                    count += archived.size();
+                }
+            } while (archived.size() == REBUILD_CHUNK_SIZE);
+        } finally {
+            updatedDuringRebuild = null;
+        }
+
+        log.info("board search index rebuilt : {} documents, {} terms in {}ms",
+                count, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    public void index(long id, String title, String content) {
+        markUpdated(id);
+        apply(id, title, content, null);
+    }
+
+    // skipUpdated 에 있는 게시글은 재구축보다 나중의 실시간 반영이 이미 있으므로 건너뛴다
+    // 같은 id 의 compute 안에서 확인하므로 실시간 반영과 순서가 엇갈려도 오래된 내용이 남지 않는다
+    private void apply(long id, String title, String content, Set<Long> skipUpdated) {
+        Map<String, Integer> terms = NGramTokenizer.tokenize(content);
+        NGramTokenizer.tokenize(title).forEach((term, tf) -> terms.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        documents.compute(id, (key, previous) -> {
+            if (skipUpdated != null && skipUpdated.contains(key)) {
+                return previous;
+            }
+
+            if (previous != null) {
+                unlink(key, previous);
+            }
+
+            terms.forEach((term, tf) -> postings.compute(term, (t, docs) -> {
+                Map<Long, Integer> target = docs == null ? new ConcurrentHashMap<>() : docs;
+                target.put(key, tf);
+                return target;
+            }));
+            totalLength.addAndGet(length);
+
+            return new Document(terms.keySet().toArray(new String[0]), length);
+        });
+    }
+
+    public void remove(long id) {
+        markUpdated(id);
+        documents.computeIfPresent(id, (key, previous) -> {
+            unlink(key, previous);
+            return null;
+        });
+    }
+
+    public void clear() {
+        documents.clear();
+        postings.clear();
+        totalLength.set(0);
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        Map<String, Integer> grams = NGramTokenizer.tokenize(query);
+        if (grams.isEmpty() || limit <= 0 || offset < 0 || offset > Integer.MAX_VALUE - limit) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        List<Map<Long, Integer>> lists = new ArrayList<>();
+        for (String gram : grams.keySet()) {
+            Map<Long, Integer> docs = postings.get(gram);
+            if (docs == null) {
+                return new SearchResult(List.of(), 0);
+            }
+            lists.add(docs);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = Math.max(documents.size(), 1);
+        double averageLength = Math.max((double) totalLength.get() / documentCount, 1);
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            int df = lists.get(i).size();
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        // 가장 짧은 posting 부터 교집합을 구하고 상위 K 개만 힙에 유지한다
+        // 일치하는 문서는 가장 짧은 posting 보다 많을 수 없으므로 힙도 그 이상 잡지 않는다
+        int k = offset + limit;
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(Math.max(1, Math.min(k, lists.get(0).size())), RANKING);
+        int total = 0;
+        for (Long id : lists.get(0).keySet()) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+
+            double score = 0;
+            boolean matched = true;
+            for (int i = 0; i < lists.size(); i++) {
+                Integer tf = lists.get(i).get(id);
+                if (tf == null) {
+                    matched = false;
+                    break;
+                }
+                double norm = K1 * (1 - B + B * document.length / averageLength);
+                score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+            if (!matched) {
+                continue;
+            }
+
+            total++;
+            SearchHit hit = new SearchHit(id, score);
+            if (heap.size() < k) {
+                heap.offer(hit);
+            } else if (RANKING.compare(hit, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(hit);
+            }
+        }
+
+        List<SearchHit> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING.reversed());
+
+        List<SearchHit> hits = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+
+        return new SearchResult(hits, total);
+    }
+
+    private void markUpdated(long id) {
+        Set<Long> updated = updatedDuringRebuild;
+        if (updated != null) {
+            updated.add(id);
+        }
+    }
+
+    private void unlink(long id, Document document) {
+        for (String term : document.terms) {
+            postings.computeIfPresent(term, (t, docs) -> {
+                docs.remove(id);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+        totalLength.addAndGet(-document.length);
+    }
+
+    private static class Document {
+
+        private final String[] terms;
+
+        private final int length;
+
+        private Document(String[] terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+
+    }
+
+}
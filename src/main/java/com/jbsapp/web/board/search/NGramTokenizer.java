@@ -0,0 +1,48 @@
+package com.jbsapp.web.board.search;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class NGramTokenizer {
+
+    private static final int N = 2;
+
+    private NGramTokenizer() {
+    }
+
+    // 한글은 띄어쓰기만으로 검색하기 어려우므로 단어를 2-gram 으로 잘라서 색인한다
+    public static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> grams = new HashMap<>();
+        if (text == null) {
+            return grams;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(grams, normalized.substring(start, i));
+                start = -1;
+            }
+        }
+
+        return grams;
+    }
+
+    private static void addWord(Map<String, Integer> grams, String word) {
+        if (word.length() <= N) {
+            grams.merge(word, 1, Integer::sum);
+            return;
+        }
+
+        for (int i = 0; i + N <= word.length(); i++) {
+            grams.merge(word.substring(i, i + N), 1, Integer::sum);
+        }
+    }
+
+}
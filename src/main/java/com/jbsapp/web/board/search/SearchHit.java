@@ -0,0 +1,16 @@
+package com.jbsapp.web.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class SearchHit {
+
+    private final long id;
+
+    private final double score;
+
+}
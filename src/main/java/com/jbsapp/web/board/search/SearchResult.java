@@ -0,0 +1,18 @@
+package com.jbsapp.web.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class SearchResult {
+
+    private final List<SearchHit> hits;
+
+    private final int total;
+
+}
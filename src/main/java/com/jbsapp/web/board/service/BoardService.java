@@ -1,88 +1,553 @@
 package com.jbsapp.web.board.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jbsapp.web.board.cache.BoardCache;
+import com.jbsapp.web.board.cache.BoardCountCache;
 import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.domain.BoardCold;
+import com.jbsapp.web.board.model.BoardCursor;
+import com.jbsapp.web.board.model.BoardDetail;
+import com.jbsapp.web.board.model.BoardExport;
 import com.jbsapp.web.board.model.BoardRequest;
+import com.jbsapp.web.board.model.BoardSummary;
 import com.jbsapp.web.board.model.DeleteRequest;
+import com.jbsapp.web.board.repository.BoardColdRepository;
 import com.jbsapp.web.board.repository.BoardRepository;
+import com.jbsapp.web.board.search.BoardSearchIndex;
+import com.jbsapp.web.board.search.SearchHit;
+import com.jbsapp.web.board.search.SearchResult;
+import com.jbsapp.web.board.trending.TrendingBoard;
+import com.jbsapp.web.board.trending.TrendingBoards;
+import com.jbsapp.web.board.view.BoardViewCounter;
+import com.jbsapp.web.board.writebehind.BoardWriteBehind;
+import com.jbsapp.web.common.converter.CompressedTextConverter;
+import com.jbsapp.web.common.datasource.StreamingFetchSize;
+import com.jbsapp.web.common.exception.BadRequestException;
+import com.jbsapp.web.common.exception.ConflictException;
 import com.jbsapp.web.common.exception.WebException;
+import com.jbsapp.web.common.importer.BulkImporter;
+import com.jbsapp.web.common.importer.ImportResult;
+import com.jbsapp.web.common.model.CursorResponse;
+import com.jbsapp.web.common.purge.SoftDeletePurgeJob;
+import com.jbsapp.web.common.util.DeletedFilter;
+import com.jbsapp.web.security.crypto.PasswordHashService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
 public class BoardService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
+    private static final int MAX_SEARCH_WINDOW = 1000;
+
+    private static final String CONFLICT_MESSAGE = "다른 요청이 먼저 수정했습니다. 다시 조회 후 시도해주세요.";
+
     private final BoardRepository boardRepository;
 
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final BoardColdRepository boardColdRepository;
+
+    private final PasswordHashService passwordHashService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BoardSearchIndex boardSearchIndex;
+
+    private final BoardCache boardCache;
+
+    private final BoardCountCache boardCountCache;
+
+    private final DeletedFilter deletedFilter;
+
+    private final BoardViewCounter boardViewCounter;
+
+    private final TrendingBoards trendingBoards;
+
+    private final BoardWriteBehind boardWriteBehind;
+
+    private final ObjectMapper objectMapper;
+
+    private final BulkImporter bulkImporter;
+
+    private final StreamingFetchSize streamingFetchSize;
+
+    private final SoftDeletePurgeJob softDeletePurgeJob;
+
+    @Qualifier("boardWriteExecutor")
+    private final ThreadPoolTaskExecutor boardWriteExecutor;
 
-    public Page<Board> findAll(Pageable pageable) {
-        return boardRepository.findAll(pageable);
+    // 페이지 번호 방식과 전체 개수에는 board_cold 로 보관된 게시글도 포함된다
+    @Transactional(readOnly = true)
+    public Page<BoardSummary> findAll(Pageable pageable, boolean includeDeleted) {
+        deletedFilter.apply(Board.DELETED_FILTER, includeDeleted);
+
+        List<BoardSummary> content = findPage(pageable, pageable.getPageSize(), includeDeleted);
+        addPendingViews(content);
+
+        // 전체 개수는 매번 COUNT 하지 않고 캐시된 값을 사용한다
+        return PageableExecutionUtils.getPage(content, pageable, () -> boardCountCache.get(includeDeleted));
     }
 
-    public Board findOne(Long id) {
-        return boardRepository.findById(id)
-                .orElseThrow(() -> new WebException("해당 게시글이 존재하지 않습니다."));
+    // 한 개를 더 조회해서 다음 페이지 여부만 판단하므로 COUNT 쿼리가 없다
+    @Transactional(readOnly = true)
+    public Slice<BoardSummary> findAllBySlice(Pageable pageable, boolean includeDeleted) {
+        deletedFilter.apply(Board.DELETED_FILTER, includeDeleted);
+
+        List<BoardSummary> content = findPage(pageable, pageable.getPageSize() + 1, includeDeleted);
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+
+        addPendingViews(content);
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<BoardSummary> findAllByCursor(String after, String before, int size, boolean includeDeleted) {
+        BoardCursor afterCursor = BoardCursor.decode(after);
+        BoardCursor beforeCursor = BoardCursor.decode(before);
+
+        if (afterCursor != null && beforeCursor != null) {
+            throw new WebException("after와 before는 함께 사용할 수 없습니다.");
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+
+        deletedFilter.apply(Board.DELETED_FILTER, includeDeleted);
+
+        List<BoardSummary> boards;
+        boolean hasNext;
+        boolean hasPrevious;
+        // 보관된 게시글은 모두 board 에 남은 게시글보다 오래되었으므로 board 다음에 board_cold 를 이어서 읽는다
+        if (beforeCursor != null) {
+            List<BoardSummary> archived = boardColdRepository.findAllBefore(beforeCursor, limit + 1, includeDeleted);
+            boards = archived.size() > limit
+                    ? archived
+                    : concat(boardRepository.findAllBefore(beforeCursor, limit + 1 - archived.size()), archived);
+            hasPrevious = boards.size() > limit;
+            if (hasPrevious) {
+                boards = boards.subList(1, boards.size());
+            }
+            hasNext = true;
+        } else {
+            boards = boardRepository.findAllAfter(afterCursor, limit + 1);
+            if (boards.size() <= limit) {
+                boards = concat(boards, boardColdRepository.findAllAfter(afterCursor, limit + 1 - boards.size(), includeDeleted));
+            }
+            hasNext = boards.size() > limit;
+            if (hasNext) {
+                boards = boards.subList(0, limit);
+            }
+            hasPrevious = afterCursor != null;
+        }
+
+        addPendingViews(boards);
+
+        return CursorResponse.<BoardSummary>builder()
+                .content(boards)
+                .size(boards.size())
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .nextCursor(hasNext && !boards.isEmpty() ? BoardCursor.of(boards.get(boards.size() - 1)).encode() : null)
+                .previousCursor(hasPrevious && !boards.isEmpty() ? BoardCursor.of(boards.get(0)).encode() : null)
+                .build();
     }
 
-    public Board create(BoardRequest request, String username) {
-        Board board = Board.builder()
-                .title(request.getTitle())
-                .content(request.getContent())
-                .password(bCryptPasswordEncoder.encode(request.getPassword()))
-                .writer(username)
-                .removeYn(false)
+    // 인덱스로 식별자만 고른 뒤 해당 게시글의 요약만 기본키로 조회한다
+    @Transactional(readOnly = true)
+    public CursorResponse<BoardSummary> findAllByWriter(String writer, String after, int size) {
+        if (writer == null || writer.isBlank()) {
+            throw new WebException("작성자를 입력해주세요.");
+        }
+
+        BoardCursor afterCursor = BoardCursor.decode(after);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+
+        List<Long> ids = boardRepository.findIdsByWriterAfter(writer, afterCursor, limit + 1);
+
+        boolean hasNext = ids.size() > limit;
+        if (hasNext) {
+            ids = ids.subList(0, limit);
+        }
+
+        Map<Long, BoardSummary> summaries = boardRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(BoardSummary::getId, Function.identity()));
+
+        List<BoardSummary> boards = ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // board 에서 다 채우지 못하면 보관된 게시글로 이어서 채운다
+        if (!hasNext) {
+            List<BoardSummary> archived = boardColdRepository.findAllByWriterAfter(writer, afterCursor, limit + 1 - boards.size());
+            hasNext = boards.size() + archived.size() > limit;
+            boards.addAll(archived.subList(0, Math.min(archived.size(), limit - boards.size())));
+        }
+
+        addPendingViews(boards);
+
+        return CursorResponse.<BoardSummary>builder()
+                .content(boards)
+                .size(boards.size())
+                .hasNext(hasNext)
+                .hasPrevious(afterCursor != null)
+                .nextCursor(hasNext && !boards.isEmpty() ? BoardCursor.of(boards.get(boards.size() - 1)).encode() : null)
                 .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<BoardSummary> search(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new WebException("검색어를 입력해주세요.");
+        }
+
+        // 검색은 상위 offset + size 개를 힙에 모아 정렬하므로 요청할 수 있는 범위를 제한한다
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_SEARCH_WINDOW) {
+            throw new BadRequestException("검색 결과는 " + MAX_SEARCH_WINDOW + "번째까지만 조회할 수 있습니다.");
+        }
+
+        SearchResult result = boardSearchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+
+        List<Long> ids = result.getHits().stream()
+                .map(SearchHit::getId)
+                .collect(Collectors.toList());
+
+        deletedFilter.apply(Board.DELETED_FILTER, false);
+
+        Map<Long, BoardSummary> summaries = boardRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(BoardSummary::getId, Function.identity()));
 
-        return boardRepository.save(board);
+        // board 에 없는 식별자는 board_cold 로 보관된 게시글이다
+        List<Long> archivedIds = ids.stream()
+                .filter(id -> !summaries.containsKey(id))
+                .collect(Collectors.toList());
+        boardColdRepository.findSummariesByIds(archivedIds)
+                .forEach(summary -> summaries.put(summary.getId(), summary));
+
+        List<BoardSummary> content = ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        addPendingViews(content);
+
+        return new PageImpl<>(content, pageable, result.getTotal());
     }
 
-    @Transactional
-    public Board update(BoardRequest request, String username, Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new WebException("해당 게시글이 존재하지 않습니다."));
+    @Transactional(readOnly = true)
+    public BoardDetail findOne(Long id) {
+        Board queued = boardWriteBehind.find(id);
+        // board 에 없으면 월 단위로 보관된 board_cold 에서 찾는다
+        Board board = queued != null ? queued : boardCache.get(id, key -> boardRepository.findById(key)
+                .or(() -> boardColdRepository.findById(key).map(BoardCold::toBoard))
+                .orElseThrow(() -> new WebException("해당 게시글이 존재하지 않습니다.")));
 
-        if (!username.equals(board.getWriter())) {
-            throw new WebException("작성자만 수정 가능합니다.");
+        boardViewCounter.increment(id);
+        // 삭제된 게시글은 includeDeleted 나 캐시로 조회되어도 인기 게시글에 다시 올리지 않는다
+        if (!board.isRemoveYn()) {
+            trendingBoards.record(board, TrendingBoards.VIEW_WEIGHT);
         }
 
-        System.out.println("==========================" + bCryptPasswordEncoder.matches(request.getPassword(), board.getPassword()));
-        if (!bCryptPasswordEncoder.matches(request.getPassword(), board.getPassword())) {
-            throw new WebException("비밀번호가 일치하지 않습니다.");
+        return new BoardDetail(board, board.getViews() + boardViewCounter.pending(id));
+    }
+
+    // 한 줄에 게시글 하나씩 NDJSON 으로 쓴다
+    // 보관된 게시글이 더 오래되었으므로 board_cold 를 먼저 쓰고 board 를 이어서 쓴다
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        try (Stream<BoardExport> archived = boardColdRepository.streamForExport(streamingFetchSize.get())) {
+            write(archived, out);
         }
 
-        board.setTitle(request.getTitle());
-        board.setContent(request.getContent());
-        board.setPassword(request.getPassword());
+        try (Stream<BoardExport> boards = boardRepository.streamForExport(streamingFetchSize.get())) {
+            write(boards, out);
+        }
 
-        return board;
+        out.flush();
     }
 
-    @Transactional
-    public Board delete(DeleteRequest request, String username, Long id) {
+    private void write(Stream<BoardExport> boards, OutputStream out) throws IOException {
+        Iterator<BoardExport> iterator = boards.iterator();
+        while (iterator.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(iterator.next()));
+            out.write('\n');
+        }
+    }
+
+    // 행마다 writer 를 지정할 수 있고, 없으면 가져오기를 요청한 사용자로 저장한다
+    public ImportResult importBoards(InputStream in, String username) {
+        return bulkImporter.run("board", in, BoardRequest.class, BoardRequest::getPassword, chunk -> {
+            List<Board> boards = chunk.stream()
+                    .map(row -> Board.builder()
+                            .title(row.getRequest().getTitle())
+                            .content(row.getRequest().getContent())
+                            .password(row.getEncodedPassword())
+                            .writer(row.getRaw().path("writer").asText(username))
+                            .removeYn(false)
+                            .build())
+                    .collect(Collectors.toList());
+
+            List<Board> saved = transactionTemplate.execute(status -> boardRepository.saveAll(boards));
+            saved.forEach(board -> boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent()));
+            boardCountCache.invalidate();
+
+            return List.of();
+        });
+    }
+
+    public Map<String, Object> cacheStats() {
+        return boardCache.stats();
+    }
+
+    // 게시글과 회원 테이블별 마지막 아카이브 결과
+    public Map<String, Object> purgeStats() {
+        return softDeletePurgeJob.stats();
+    }
+
+    // 주기적으로 만들어 둔 스냅샷을 그대로 반환하므로 DB 를 조회하지 않는다
+    public List<TrendingBoard> trending() {
+        return trendingBoards.top();
+    }
+
+    public Map<String, Object> contentStats() {
+        return CompressedTextConverter.stats();
+    }
+
+    public CompletableFuture<Board> create(BoardRequest request, String username) {
+        return passwordHashService.encode(request.getPassword())
+                .thenApplyAsync(password -> {
+                    Board board = Board.builder()
+                            .title(request.getTitle())
+                            .content(request.getContent())
+                            .password(password)
+                            .writer(username)
+                            .removeYn(false)
+                            .build();
+
+                    // 쓰기 지연 모드에서는 식별자만 발급하고 저장은 쓰기 전용 스레드에 맡긴다
+                    if (boardWriteBehind.isEnabled()) {
+                        Board queued = boardWriteBehind.enqueue(board);
+                        trendingBoards.record(queued, TrendingBoards.WRITE_WEIGHT);
+
+                        return queued;
+                    }
+
+                    Board saved = boardRepository.save(board);
+                    boardSearchIndex.index(saved.getId(), saved.getTitle(), saved.getContent());
+                    trendingBoards.record(saved, TrendingBoards.WRITE_WEIGHT);
+                    boardCountCache.invalidate();
+
+                    return saved;
+                }, boardWriteExecutor);
+    }
+
+    // 비밀번호는 병렬로 해시하고, 저장은 하나의 트랜잭션에서 hibernate.jdbc.batch_size 단위로 묶어서 보낸다
+    public CompletableFuture<List<BoardSummary>> createAll(List<BoardRequest> requests, String username) {
+        List<String> rawPasswords = requests.stream()
+                .map(BoardRequest::getPassword)
+                .collect(Collectors.toList());
+
+        return passwordHashService.encodeAll(rawPasswords)
+                .thenApplyAsync(passwords -> {
+                    List<Board> boards = new ArrayList<>(requests.size());
+                    for (int i = 0; i < requests.size(); i++) {
+                        BoardRequest request = requests.get(i);
+                        boards.add(Board.builder()
+                                .title(request.getTitle())
+                                .content(request.getContent())
+                                .password(passwords.get(i))
+                                .writer(username)
+                                .removeYn(false)
+                                .build());
+                    }
+
+                    List<Board> saved = transactionTemplate.execute(status -> boardRepository.saveAll(boards));
+                    saved.forEach(board -> boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent()));
+                    boardCountCache.invalidate();
+
+                    return saved.stream()
+                            .map(BoardSummary::of)
+                            .collect(Collectors.toList());
+                }, boardWriteExecutor);
+    }
+
+    // 비밀번호 확인은 해시 전용 스레드에서 하고, 확인이 끝난 뒤 DB 작업용 스레드에서 짧은 트랜잭션으로 반영한다
+    // 제목과 내용을 통째로 덮어쓰므로 다시 시도하지 않고, 조회한 버전 이후에 다른 수정이 있었다면 409 로 실패한다
+    public CompletableFuture<Board> update(BoardRequest request, String username, Long id) {
+        if (request.getVersion() == null) {
+            throw new BadRequestException("수정할 게시글의 버전을 입력해주세요.");
+        }
+
+        Board board = findByWriter(id, username, "작성자만 수정 가능합니다.");
+
+        return passwordHashService.matches(request.getPassword(), board.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        throw new WebException("비밀번호가 일치하지 않습니다.");
+                    }
+
+                    Board updated;
+                    try {
+                        updated = transactionTemplate.execute(status -> {
+                            Board target = boardRepository.findById(id)
+                                    .orElseThrow(() -> new WebException("해당 게시글이 존재하지 않습니다."));
+
+                            if (request.getVersion() != target.getVersion()) {
+                                throw new ConflictException(CONFLICT_MESSAGE);
+                            }
+
+                            target.setTitle(request.getTitle());
+                            target.setContent(request.getContent());
+
+                            return target;
+                        });
+                    } catch (OptimisticLockingFailureException e) {
+                        throw new ConflictException(CONFLICT_MESSAGE);
+                    }
+
+                    boardSearchIndex.index(updated.getId(), updated.getTitle(), updated.getContent());
+                    trendingBoards.record(updated, TrendingBoards.WRITE_WEIGHT);
+                    boardCache.evict(updated.getId());
+
+                    return updated;
+                }, boardWriteExecutor);
+    }
+
+    // 비밀번호를 확인한 버전 그대로일 때만 삭제되도록 조건부 UPDATE 한 번으로 처리한다
+    public CompletableFuture<Board> delete(DeleteRequest request, String username, Long id) {
+        Board board = findByWriter(id, username, "작성자만 삭제 가능합니다.");
+
+        if (board.isRemoveYn()) {
+            throw new WebException("이미 삭제된 게시글입니다.");
+        }
+
+        long version = request.getVersion() == null ? board.getVersion() : request.getVersion();
+
+        return passwordHashService.matches(request.getPassword(), board.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        throw new WebException("비밀번호가 일치하지 않습니다.");
+                    }
+
+                    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                    int updated = transactionTemplate.execute(status -> boardRepository.softDelete(id, version, now));
+
+                    if (updated == 0) {
+                        Board current = boardRepository.findById(id)
+                                .orElseThrow(() -> new WebException("해당 게시글이 존재하지 않습니다."));
+
+                        if (current.isRemoveYn()) {
+                            throw new WebException("이미 삭제된 게시글입니다.");
+                        }
+
+                        throw new ConflictException(CONFLICT_MESSAGE);
+                    }
+
+                    boardSearchIndex.remove(id);
+                    trendingBoards.remove(id);
+                    boardCache.evict(id);
+                    boardCountCache.invalidate();
+
+                    board.setRemoveYn(true);
+                    board.setVersion(version + 1);
+
+                    return board;
+                }, boardWriteExecutor);
+    }
+
+    private Board findByWriter(Long id, String username, String message) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new WebException("해당 게시글이 존재하지 않습니다."));
 
         if (!username.equals(board.getWriter())) {
-            throw new WebException("작성자만 삭제 가능합니다.");
+            throw new WebException(message);
         }
 
-        if (!bCryptPasswordEncoder.matches(request.getPassword(), board.getPassword())) {
-            throw new WebException("비밀번호가 일치하지 않습니다.");
+        return board;
+    }
+
+    private static List<BoardSummary> concat(List<BoardSummary> newer, List<BoardSummary> older) {
+        List<BoardSummary> boards = new ArrayList<>(newer.size() + older.size());
+        boards.addAll(newer);
+        boards.addAll(older);
+
+        return boards;
+    }
+
+    // 보관된 게시글은 모두 board 에 남은 게시글보다 오래되었으므로 board 의 마지막 페이지 다음에 board_cold 를 이어서 읽는다
+    // 작성 시각이나 식별자 오름차순이면 반대로 board_cold 를 먼저 읽고, 그 외의 정렬은 각 테이블 안에서만 적용된다
+    private List<BoardSummary> findPage(Pageable pageable, int limit, boolean includeDeleted) {
+        Sort sort = pageable.getSort();
+        long offset = pageable.getOffset();
+
+        if (isOldestFirst(sort)) {
+            List<BoardSummary> archived = boardColdRepository.findSummaries(sort, offset, limit, includeDeleted);
+            if (archived.size() == limit) {
+                return archived;
+            }
+
+            // 첫 행부터 board 에 있는 페이지일 때만 board_cold 의 행 수가 필요하다
+            long hotOffset = archived.isEmpty()
+                    ? Math.max(0, offset - (includeDeleted ? boardColdRepository.count() : boardColdRepository.countByRemoveYnFalse()))
+                    : 0;
+
+            return concat(archived, boardRepository.findSummaries(sort, hotOffset, limit - archived.size()));
         }
 
-        if (board.isRemoveYn()) {
-            throw new WebException("이미 삭제된 게시글입니다.");
+        List<BoardSummary> boards = boardRepository.findSummaries(sort, offset, limit);
+        if (boards.size() == limit) {
+            return boards;
         }
 
-        board.setRemoveYn(true);
+        long coldOffset = boards.isEmpty()
+                ? Math.max(0, offset - (includeDeleted ? boardRepository.count() : boardRepository.countByRemoveYnFalse()))
+                : 0;
 
-        return board;
+        return concat(boards, boardColdRepository.findSummaries(sort, coldOffset, limit - boards.size(), includeDeleted));
+    }
+
+    private static boolean isOldestFirst(Sort sort) {
+        return sort.stream()
+                .findFirst()
+                .map(order -> order.isAscending()
+                        && ("createdDate".equals(order.getProperty()) || "id".equals(order.getProperty())))
+                .orElse(false);
+    }
+
+    private void addPendingViews(List<BoardSummary> boards) {
+        boards.forEach(board -> board.addViews(boardViewCounter.pending(board.getId())));
     }
+
 }
@@ -0,0 +1,56 @@
+package com.jbsapp.web.board.trending;
+
+import java.util.concurrent.atomic.DoubleAdder;
+
+// 게시글마다 점수를 따로 들고 있지 않고 고정된 크기의 표에 근사치로 누적한다 (과대 추정만 발생)
+// 인기 게시글 하나에 조회가 몰려도 한 칸에서 경합하지 않도록 칸마다 DoubleAdder 로 나눠 더한다
+class CountMinSketch {
+
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final DoubleAdder[][] table;
+
+    private final int width;
+
+    CountMinSketch(int width) {
+        this.width = width;
+        this.table = new DoubleAdder[SEEDS.length][width];
+        for (DoubleAdder[] row : table) {
+            for (int column = 0; column < width; column++) {
+                row[column] = new DoubleAdder();
+            }
+        }
+    }
+
+    void add(long key, double weight) {
+        for (int row = 0; row < SEEDS.length; row++) {
+            table[row][index(key, row)].add(weight);
+        }
+    }
+
+    double estimate(long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            estimate = Math.min(estimate, table[row][index(key, row)].sum());
+        }
+
+        return estimate;
+    }
+
+    // 동시에 add 가 없을 때만 호출해야 한다 (TrendingBoards 의 쓰기 잠금 안에서 호출)
+    void scale(double factor) {
+        for (DoubleAdder[] row : table) {
+            for (DoubleAdder cell : row) {
+                cell.add(cell.sumThenReset() * factor);
+            }
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+
+        return (int) Math.floorMod(hash, (long) width);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.jbsapp.web.board.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class TrendingBoard {
+
+    private final long id;
+
+    private final String title;
+
+    private final String writer;
+
+    private final double score;
+
+}
@@ -0,0 +1,154 @@
+package com.jbsapp.web.board.trending;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jbsapp.web.board.domain.Board;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Component
+public class TrendingBoards {
+
+    public static final double VIEW_WEIGHT = 1;
+
+    public static final double WRITE_WEIGHT = 5;
+
+    private static final int SKETCH_WIDTH = 4096;
+
+    // 가중치가 exp(50) 을 넘기 전에 기준 시각을 옮겨 double 범위를 벗어나지 않게 한다
+    private static final double MAX_EXPONENT = 50;
+
+    private static final Comparator<TrendingBoard> RANKING = Comparator
+            .comparingDouble(TrendingBoard::getScore)
+            .thenComparingLong(TrendingBoard::getId);
+
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_WIDTH);
+
+    // 상위권 후보만 제목과 함께 들고 있는다
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+    // 삭제 직전에 읽은 게시글의 조회가 뒤늦게 기록되어 다시 올라오지 않도록 삭제된 id 를 반감기 동안 기억한다
+    private final Cache<Long, Boolean> removed;
+
+    private final int size;
+
+    private final int capacity;
+
+    private final double decayPerMilli;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile long landmark = System.currentTimeMillis();
+
+    private volatile List<TrendingBoard> snapshot = List.of();
+
+    public TrendingBoards(@Value("${board.trending.size:10}") int size,
+                          @Value("${board.trending.half-life:6h}") Duration halfLife) {
+        this.size = size;
+        this.capacity = size * 10;
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.removed = Caffeine.newBuilder()
+                .maximumSize(capacity * 1000L)
+                .expireAfterWrite(halfLife)
+                .build();
+    }
+
+    // 최근 이벤트일수록 큰 가중치를 더하는 방식(forward decay)으로 오래된 점수를 따로 줄이지 않아도 된다
+    // 읽기 잠금은 기준 시각을 옮기는 동안만 막기 위한 것이고, 더하는 것 자체는 잠금 없이 한다
+    public void record(Board board, double weight) {
+        if (board.isRemoveYn() || removed.getIfPresent(board.getId()) != null) {
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            sketch.add(board.getId(), weight * Math.exp(decayPerMilli * (System.currentTimeMillis() - landmark)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.put(board.getId(), new Candidate(board.getTitle(), board.getWriter()));
+    }
+
+    public void remove(long id) {
+        removed.put(id, Boolean.TRUE);
+        candidates.remove(id);
+        snapshot = snapshot.stream()
+                .filter(board -> board.getId() != id)
+                .collect(Collectors.toList());
+    }
+
+    public List<TrendingBoard> top() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${board.trending.snapshot-interval:PT10S}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        rebase(now);
+
+        double decay = Math.exp(-decayPerMilli * (now - landmark));
+
+        PriorityQueue<TrendingBoard> heap = new PriorityQueue<>(RANKING);
+        PriorityQueue<TrendingBoard> keep = new PriorityQueue<>(RANKING);
+        for (Map.Entry<Long, Candidate> entry : candidates.entrySet()) {
+            Candidate candidate = entry.getValue();
+            TrendingBoard board = new TrendingBoard(entry.getKey(), candidate.getTitle(), candidate.getWriter(),
+                    sketch.estimate(entry.getKey()) * decay);
+
+            heap.offer(board);
+            if (heap.size() > size) {
+                heap.poll();
+            }
+
+            keep.offer(board);
+            if (keep.size() > capacity) {
+                candidates.remove(keep.poll().getId());
+            }
+        }
+
+        snapshot = heap.stream()
+                .sorted(RANKING.reversed())
+                .collect(Collectors.toList());
+    }
+
+    // 기준 시각을 옮기는 동안 다른 스레드가 이전 기준으로 가중치를 더하지 않도록 막는다
+    private void rebase(long now) {
+        double exponent = decayPerMilli * (now - landmark);
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            sketch.scale(Math.exp(-decayPerMilli * (now - landmark)));
+            landmark = now;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+
+        private final String title;
+
+        private final String writer;
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.jbsapp.web.board.view;
+
+import com.jbsapp.web.board.cache.BoardCache;
+import com.jbsapp.web.board.writebehind.BoardWriteBehind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardViewCounter {
+
+    // 조회마다 같은 행을 UPDATE 하면 락 경합이 생기므로 메모리에서 모았다가 주기적으로 반영한다
+    // 인기 게시글에 조회가 몰려도 한 곳에서 경합하지 않도록 LongAdder 로 세고, flush 는 맵을 통째로 새 맵으로 바꾼 뒤 합산한다
+    private final AtomicReference<ConcurrentHashMap<Long, LongAdder>> counters = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    // 스레드마다 지금 더하고 있는 맵을 표시해 두고, flush 는 맵을 바꾼 뒤 이전 맵에 더하는 중인 스레드가 끝나기를 기다린다
+    // 각 스레드는 자기 표시만 쓰므로 증가끼리는 경합하지 않는다
+    private final Set<AtomicReference<Map<Long, LongAdder>>> writers = ConcurrentHashMap.newKeySet();
+
+    private final ThreadLocal<AtomicReference<Map<Long, LongAdder>>> writing = ThreadLocal.withInitial(() -> {
+        AtomicReference<Map<Long, LongAdder>> slot = new AtomicReference<>();
+        writers.add(slot);
+        return slot;
+    });
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BoardCache boardCache;
+
+    private final BoardWriteBehind boardWriteBehind;
+
+    public void increment(long id) {
+        add(id, 1);
+    }
+
+    public long pending(long id) {
+        LongAdder counter = counters.get().get(id);
+
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view.flush-interval:PT5S}")
+    public synchronized void flush() {
+        Map<Long, LongAdder> swapped = counters.getAndSet(new ConcurrentHashMap<>());
+
+        for (AtomicReference<Map<Long, LongAdder>> slot : writers) {
+            while (slot.get() == swapped) {
+                Thread.onSpinWait();
+            }
+        }
+
+        List<Object[]> deltas = new ArrayList<>();
+        swapped.forEach((id, counter) -> {
+            long delta = counter.sum();
+
+            if (delta != 0) {
+                deltas.add(new Object[]{delta, id});
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> requeued = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                requeued.clear();
+
+                // board 에 없는 게시글은 월 단위로 보관된 board_cold 에 더한다
+                List<Object[]> missing = notUpdated(deltas,
+                        jdbcTemplate.batchUpdate("UPDATE board SET views = views + ? WHERE id = ?", deltas));
+                if (missing.isEmpty()) {
+                    return;
+                }
+
+                // 둘 다 없으면 쓰기 지연 큐에서 아직 저장되지 않은 게시글만 다음 주기에 다시 시도한다
+                for (Object[] delta : notUpdated(missing,
+                        jdbcTemplate.batchUpdate("UPDATE board_cold SET views = views + ? WHERE id = ?", missing))) {
+                    if (boardWriteBehind.find((Long) delta[1]) != null) {
+                        requeued.add(delta);
+                    } else {
+                        log.debug("board view dropped for missing board {} : {}", delta[1], delta[0]);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // 반영에 실패한 조회수는 다음 주기에 다시 시도한다
+            deltas.forEach(this::requeue);
+            log.warn("board view flush failed : {}", e.getMessage());
+            return;
+        }
+
+        requeued.forEach(this::requeue);
+
+        // 캐시에 남아있는 이전 조회수를 버린다
+        for (Object[] delta : deltas) {
+            boardCache.evict((Long) delta[1]);
+        }
+    }
+
+    private List<Object[]> notUpdated(List<Object[]> deltas, int[] counts) {
+        List<Object[]> result = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (counts[i] == 0) {
+                result.add(deltas.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    private void requeue(Object[] delta) {
+        add((Long) delta[1], (Long) delta[0]);
+    }
+
+    private void add(long id, long delta) {
+        AtomicReference<Map<Long, LongAdder>> slot = writing.get();
+
+        // 표시한 뒤에도 같은 맵이면 flush 가 이 맵을 떼어내더라도 더하기가 끝날 때까지 기다린다
+        ConcurrentHashMap<Long, LongAdder> current;
+        do {
+            current = counters.get();
+            slot.set(current);
+        } while (counters.get() != current);
+
+        try {
+            // 이미 있는 카운터는 computeIfAbsent 의 버킷 락을 거치지 않고 읽는다
+            LongAdder counter = current.get(id);
+            if (counter == null) {
+                counter = current.computeIfAbsent(id, key -> new LongAdder());
+            }
+
+            counter.add(delta);
+        } finally {
+            slot.set(null);
+        }
+    }
+
+}
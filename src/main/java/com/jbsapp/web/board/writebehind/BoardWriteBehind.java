@@ -0,0 +1,255 @@
+package com.jbsapp.web.board.writebehind;
+
+import com.jbsapp.web.board.cache.BoardCountCache;
+import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.search.BoardSearchIndex;
+import com.jbsapp.web.common.converter.CompressedTextConverter;
+import com.jbsapp.web.common.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// 요청마다 커넥션과 트랜잭션을 잡지 않고 큐에 쌓아 두었다가 쓰기 전용 스레드 하나가 묶어서 저장한다
+@Slf4j
+@Component
+public class BoardWriteBehind {
+
+    private static final String INSERT_SQL = "INSERT INTO board "
+            + "(id, title, content, writer, password, remove_yn, views, version, created_date, modified_date) "
+            + "VALUES (?, ?, ?, ?, ?, FALSE, 0, 0, ?, ?)";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // 한 건씩 다시 저장해도 실패한 게시글은 별도 로그로 남겨 나중에 복구할 수 있게 한다
+    private static final Logger DEAD_LETTER = LoggerFactory.getLogger("board.write-behind.dead-letter");
+
+    private final CompressedTextConverter contentConverter = new CompressedTextConverter();
+
+    // 아직 저장되지 않은 게시글도 findOne 에서 보이도록 따로 들고 있는다
+    private final Map<Long, Board> queued = new ConcurrentHashMap<>();
+
+    private final BlockingQueue<Board> queue;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BoardSearchIndex boardSearchIndex;
+
+    private final BoardCountCache boardCountCache;
+
+    private IdentifierGenerator idGenerator;
+
+    private volatile Thread writer;
+
+    private volatile boolean running;
+
+    // 종료 중에 running 확인과 offer 사이로 끼어든 게시글이 큐에 남지 않도록 종료는 쓰기 잠금으로 막는다
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public BoardWriteBehind(@Value("${board.write-behind.enabled:false}") boolean enabled,
+                            @Value("${board.write-behind.queue-capacity:10000}") int queueCapacity,
+                            @Value("${board.write-behind.batch-size:500}") int batchSize,
+                            EntityManagerFactory entityManagerFactory,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            BoardSearchIndex boardSearchIndex,
+                            BoardCountCache boardCountCache) {
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardCountCache = boardCountCache;
+    }
+
+    @PostConstruct
+    public void start() {
+        // JPA 로 저장하는 게시글과 같은 시퀀스 생성기를 써서 식별자가 겹치지 않게 한다
+        idGenerator = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(Board.class)
+                .getIdentifierGenerator();
+
+        running = true;
+
+        // 꺼져 있으면 게시글이 큐에 들어오지 않으므로 쓰기 스레드를 띄우지 않는다
+        if (enabled) {
+            writer = new Thread(this::run, "board-write-behind");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Board enqueue(Board board) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        board.setId(nextId());
+        board.initTime(now);
+
+        lock.readLock().lock();
+        try {
+            if (!running) {
+                throw new TooManyRequestsException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            queued.put(board.getId(), board);
+            if (!queue.offer(board)) {
+                queued.remove(board.getId());
+                throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return board;
+    }
+
+    public Board find(long id) {
+        return queued.get(id);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    // 종료 시에는 새 요청을 받지 않고 큐에 남은 게시글을 모두 저장한 뒤 끝낸다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        lock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Thread current = writer;
+        if (current != null) {
+            current.join();
+        }
+
+        // 쓰기 스레드가 먼저 끝났거나 뜨지 않았어도 남은 게시글은 여기서 저장한다
+        List<Board> rest = new ArrayList<>(batchSize);
+        while (queue.drainTo(rest, batchSize) > 0) {
+            write(rest);
+            rest.clear();
+        }
+    }
+
+    private void run() {
+        List<Board> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Board first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Board> batch) throws InterruptedException {
+        List<Object[]> rows = batch.stream()
+                .map(board -> new Object[]{
+                        board.getId(),
+                        board.getTitle(),
+                        contentConverter.convertToDatabaseColumn(board.getContent()),
+                        board.getWriter(),
+                        board.getPassword(),
+                        Timestamp.valueOf(board.getCreatedDate()),
+                        Timestamp.valueOf(board.getModifiedDate())})
+                .collect(Collectors.toList());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("board write-behind batch of {} failed, writing one by one : {}", batch.size(), e.getMessage());
+                    writeEach(batch, rows);
+                    return;
+                }
+
+                log.warn("board write-behind failed (attempt {}) : {}", attempt, e.getMessage());
+                Thread.sleep(attempt * 200L);
+            }
+        }
+
+        for (Board board : batch) {
+            boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent());
+            queued.remove(board.getId());
+        }
+        boardCountCache.invalidate();
+    }
+
+    // 한 행 때문에 묶음 전체를 버리지 않도록 한 건씩 저장하고, 그래도 실패한 게시글만 dead letter 로 남긴다
+    private void writeEach(List<Board> batch, List<Object[]> rows) {
+        for (int i = 0; i < batch.size(); i++) {
+            Board board = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, rows.get(i));
+                boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent());
+            } catch (RuntimeException e) {
+                DEAD_LETTER.error("id={} writer={} createdDate={} title={} content={} : {}", board.getId(),
+                        board.getWriter(), board.getCreatedDate(), board.getTitle(), board.getContent(), e.getMessage());
+            } finally {
+                queued.remove(board.getId());
+            }
+        }
+        boardCountCache.invalidate();
+    }
+
+    private long nextId() {
+        try (StatelessSession session = entityManagerFactory.unwrap(SessionFactoryImplementor.class).openStatelessSession()) {
+            return (Long) idGenerator.generate((SharedSessionContractImplementor) session, null);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.jbsapp.web.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class AsyncConfig {
+
+    // BCrypt 는 CPU 작업이므로 코어 수만큼만 돌리고, 큐가 가득 차면 바로 거절한다
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(@Value("${password-hash.pool-size:0}") int poolSize,
+                                                       @Value("${password-hash.queue-capacity:100}") int queueCapacity) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 해시가 끝난 뒤의 DB 작업은 해시 풀을 잡아두지 않도록 커넥션 풀 크기에 맞춘 별도 풀에서 처리한다
+    @Bean
+    public ThreadPoolTaskExecutor boardWriteExecutor(@Value("${board-write.pool-size:10}") int poolSize,
+                                                     @Value("${board-write.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("board-write-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 대량 가져오기의 비밀번호 해시는 요청 처리용 풀과 섞이지 않도록 별도의 ForkJoinPool 에서 수행한다
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool importHashPool(@Value("${import.hash-parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+}
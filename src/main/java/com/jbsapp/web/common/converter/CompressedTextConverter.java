@@ -0,0 +1,165 @@
+package com.jbsapp.web.common.converter;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 일정 크기 이상의 본문은 Deflate 로 압축해서 저장한다
+// 첫 바이트로 저장 형식을 구분하며, 헤더가 없으면 마이그레이션 전의 UTF-8 원문으로 읽는다
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    public static final byte RAW = 0;
+
+    public static final byte DEFLATE_V1 = 1;
+
+    static final int THRESHOLD_BYTES = 256;
+
+    // 압축된 값을 읽으려면 같은 사전이 필요하므로 내용을 바꾸려면 새 형식(DEFLATE_V2)을 추가해야 한다
+    private static final byte[] DICTIONARY_V1 = (
+            "습니다. 입니다. 있습니다. 없습니다. 합니다. 했습니다. 그리고 하지만 그래서 때문에 "
+                    + "에서 으로 에게 부터 까지 이라고 하는 있는 없는 같은 다른 어떤 "
+                    + "게시글 내용 제목 작성자 댓글 질문 답변 문의 안녕하세요 감사합니다 "
+                    + "http:// https:// www. .com .co.kr "
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private static final LongAdder rawBytes = new LongAdder();
+
+    private static final LongAdder storedBytes = new LongAdder();
+
+    private static final LongAdder compressedCount = new LongAdder();
+
+    private static final LongAdder compressNanos = new LongAdder();
+
+    private static final LongAdder decompressNanos = new LongAdder();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+
+        byte[] stored = raw.length > THRESHOLD_BYTES ? compress(raw) : null;
+        if (stored == null) {
+            stored = withHeader(RAW, raw, raw.length);
+        } else {
+            compressedCount.increment();
+        }
+
+        rawBytes.add(raw.length);
+        storedBytes.add(stored.length);
+
+        return stored;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+
+        if (dbData.length == 0) {
+            return "";
+        }
+
+        switch (dbData[0]) {
+            case RAW:
+                return new String(dbData, 1, dbData.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE_V1:
+                return new String(decompress(dbData), StandardCharsets.UTF_8);
+            default:
+                return new String(dbData, StandardCharsets.UTF_8);
+        }
+    }
+
+    public static boolean isLegacy(byte[] dbData) {
+        return dbData != null && dbData.length > 0 && dbData[0] != RAW && dbData[0] != DEFLATE_V1;
+    }
+
+    public static Map<String, Object> stats() {
+        long raw = rawBytes.sum();
+        long stored = storedBytes.sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rawBytes", raw);
+        result.put("storedBytes", stored);
+        result.put("ratio", raw == 0 ? 1.0 : (double) stored / raw);
+        result.put("compressedCount", compressedCount.sum());
+        result.put("compressMillis", compressNanos.sum() / 1_000_000);
+        result.put("decompressMillis", decompressNanos.sum() / 1_000_000);
+
+        return result;
+    }
+
+    // 압축해도 작아지지 않으면 null
+    private static byte[] compress(byte[] raw) {
+        long start = System.nanoTime();
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setDictionary(DICTIONARY_V1);
+            deflater.setInput(raw);
+            deflater.finish();
+
+            byte[] buffer = new byte[raw.length];
+            int length = deflater.deflate(buffer);
+
+            if (!deflater.finished() || length + 1 >= raw.length) {
+                return null;
+            }
+
+            return withHeader(DEFLATE_V1, buffer, length);
+        } finally {
+            deflater.end();
+            compressNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static byte[] decompress(byte[] dbData) {
+        long start = System.nanoTime();
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(dbData, 1, dbData.length - 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(dbData.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+
+                if (length == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(DICTIONARY_V1);
+                } else if (length == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("compressed content is truncated");
+                }
+
+                out.write(buffer, 0, length);
+            }
+
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("compressed content is corrupted", e);
+        } finally {
+            inflater.end();
+            decompressNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body, int length) {
+        byte[] result = new byte[length + 1];
+        result[0] = header;
+        System.arraycopy(body, 0, result, 1, length);
+
+        return result;
+    }
+
+}
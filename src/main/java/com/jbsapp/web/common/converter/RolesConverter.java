@@ -0,0 +1,22 @@
+package com.jbsapp.web.common.converter;
+
+import com.jbsapp.web.security.Roles;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+// 권한은 문자열 대신 RoleType 비트마스크 정수로 저장한다
+@Converter
+public class RolesConverter implements AttributeConverter<Roles, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Roles attribute) {
+        return attribute == null ? null : attribute.getMask();
+    }
+
+    @Override
+    public Roles convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : Roles.of(dbData);
+    }
+
+}
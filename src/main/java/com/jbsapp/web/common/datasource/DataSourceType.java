@@ -0,0 +1,8 @@
+package com.jbsapp.web.common.datasource;
+
+public enum DataSourceType {
+
+    PRIMARY,
+    REPLICA
+
+}
@@ -0,0 +1,60 @@
+package com.jbsapp.web.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// 복제 지연이 허용치를 넘거나 레플리카에 접속할 수 없으면 읽기도 프라이머리로 보낸다
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private final String lagQuery;
+
+    private final Duration maxLag;
+
+    private volatile boolean available = true;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval:PT5S}")
+    public void check() {
+        try {
+            Long lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+
+            // 복제가 멈춘 레플리카는 지연값을 NULL 로 돌려준다
+            if (lagSeconds == null || lagSeconds > maxLag.getSeconds()) {
+                update(false, "lag " + lagSeconds + "s");
+            } else {
+                update(true, "lag " + lagSeconds + "s");
+            }
+        } catch (RuntimeException e) {
+            update(false, e.getMessage());
+        }
+    }
+
+    public void markUnavailable(Exception e) {
+        update(false, e.getMessage());
+    }
+
+    private void update(boolean available, String reason) {
+        if (this.available != available) {
+            log.warn("replica {} : {}", available ? "available" : "unavailable", reason);
+        }
+
+        this.available = available;
+    }
+
+}
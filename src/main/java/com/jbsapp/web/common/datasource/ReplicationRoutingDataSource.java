@@ -0,0 +1,51 @@
+package com.jbsapp.web.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+// readOnly 트랜잭션은 레플리카로, 나머지는 프라이머리로 보낸다
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.primary = primary;
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isAvailable()) {
+            return DataSourceType.REPLICA;
+        }
+
+        return DataSourceType.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            if (determineCurrentLookupKey() != DataSourceType.REPLICA) {
+                throw e;
+            }
+
+            // 레플리카 접속에 실패하면 다음 점검 전까지 프라이머리에서 읽는다
+            replicaLagMonitor.markUnavailable(e);
+
+            return primary.getConnection();
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.jbsapp.web.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// MySQL Connector/J 는 URL 에 useCursorFetch=true 가 없으면 fetch size 를 무시하고 결과 전체를 메모리에 올린다
+// 그럴 때는 Integer.MIN_VALUE 로 행 단위 스트리밍을 쓴다 (스트림을 닫기 전까지 같은 커넥션으로 다른 쿼리를 보낼 수 없다)
+@Slf4j
+@Component
+public class StreamingFetchSize {
+
+    private static final String CURSOR_FETCH = "useCursorFetch=true";
+
+    private final int value;
+
+    public StreamingFetchSize(@Value("${datasource.streaming.fetch-size:500}") int fetchSize,
+                              @Value("${spring.datasource.url:}") String url,
+                              @Value("${datasource.replica.enabled:false}") boolean replicaEnabled,
+                              @Value("${datasource.replica.url:}") String replicaUrl) {
+        // 레플리카가 지연되면 읽기도 프라이머리로 가므로 두 URL 모두 확인한다
+        if (fetchSize > 0 && (withoutCursorFetch(url) || replicaEnabled && withoutCursorFetch(replicaUrl))) {
+            log.warn("MySQL url has no {}, streaming row by row instead of fetch size {}", CURSOR_FETCH, fetchSize);
+            this.value = Integer.MIN_VALUE;
+        } else {
+            this.value = fetchSize;
+        }
+    }
+
+    public int get() {
+        return value;
+    }
+
+    private static boolean withoutCursorFetch(String url) {
+        return url.startsWith("jdbc:mysql:") && !url.contains(CURSOR_FETCH);
+    }
+
+}
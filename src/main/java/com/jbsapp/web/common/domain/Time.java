@@ -21,4 +21,14 @@ public abstract class Time {
     @LastModifiedDate
     private LocalDateTime modifiedDate;
 
+    // 엔티티 리스너를 거치지 않고 저장하는 경우 직접 채운다
+    public void initTime(LocalDateTime now) {
+        initTime(now, now);
+    }
+
+    public void initTime(LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+
 }
@@ -0,0 +1,9 @@
+package com.jbsapp.web.common.exception;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+}
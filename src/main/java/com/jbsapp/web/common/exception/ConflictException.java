@@ -0,0 +1,9 @@
+package com.jbsapp.web.common.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+}
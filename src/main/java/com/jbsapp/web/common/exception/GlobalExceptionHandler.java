@@ -2,11 +2,14 @@ package com.jbsapp.web.common.exception;
 
 import com.jbsapp.web.common.util.WebResponseEntity;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -21,6 +24,31 @@ public class GlobalExceptionHandler {
 		return WebResponseEntity.Error(HttpStatus.BAD_REQUEST, e.getMessage());
 	}
 
+	@ExceptionHandler(BadRequestException.class)
+	public ResponseEntity<?> handleBadRequestException(BadRequestException e) {
+		return WebResponseEntity.Error(HttpStatus.BAD_REQUEST, e.getMessage());
+	}
+
+	@ExceptionHandler(ConflictException.class)
+	public ResponseEntity<?> handleConflictException(ConflictException e) {
+		return WebResponseEntity.Error(HttpStatus.CONFLICT, e.getMessage());
+	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<?> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+		return WebResponseEntity.Error(HttpStatus.CONFLICT, "다른 요청이 먼저 수정했습니다. 다시 조회 후 시도해주세요.");
+	}
+
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<?> handleTooManyRequestsException(TooManyRequestsException e) {
+		return WebResponseEntity.Error(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+	}
+
+	@ExceptionHandler(RejectedExecutionException.class)
+	public ResponseEntity<?> handleRejectedExecutionException(RejectedExecutionException e) {
+		return WebResponseEntity.Error(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<?> handleUnknownException(Exception e) {
 		return WebResponseEntity.Error(HttpStatus.INTERNAL_SERVER_ERROR, "Unknown Exception : " + e.getMessage());
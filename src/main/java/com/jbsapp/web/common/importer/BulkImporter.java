@@ -0,0 +1,259 @@
+package com.jbsapp.web.common.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jbsapp.web.common.exception.WebException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class BulkImporter {
+
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    // 거절 파일 경로는 응답으로 돌려주므로 비밀번호는 평문이든 아니든 기록하지 않는다
+    private static final Set<String> SECRET_FIELDS = Set.of("password", "prevPassword", "newPassword");
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    private final ForkJoinPool importHashPool;
+
+    private final int batchSize;
+
+    private final Path rejectDir;
+
+    public BulkImporter(ObjectMapper objectMapper,
+                        Validator validator,
+                        BCryptPasswordEncoder bCryptPasswordEncoder,
+                        @Qualifier("importHashPool") ForkJoinPool importHashPool,
+                        @Value("${import.batch-size:1000}") int batchSize,
+                        @Value("${import.reject-dir:${java.io.tmpdir}}") String rejectDir) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.importHashPool = importHashPool;
+        this.batchSize = batchSize;
+        this.rejectDir = Paths.get(rejectDir);
+    }
+
+    // 입력을 한 줄씩 읽어 batchSize 만큼 모이면 비밀번호를 병렬로 해시하고 writer 로 넘긴다
+    public <T> ImportResult run(String name, InputStream in, Class<T> type,
+                                Function<T, String> password, ImportWriter<T> writer) {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress(name, startedAt);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             RejectFile rejectFile = new RejectFile(name)) {
+            List<ImportRow<T>> chunk = new ArrayList<>(batchSize);
+
+            String text;
+            long line = 0;
+            while ((text = reader.readLine()) != null) {
+                line++;
+
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                progress.total++;
+
+                ImportRow<T> row = parse(line, text, type, rejectFile);
+                if (row == null) {
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= batchSize) {
+                    flush(chunk, password, writer, rejectFile, progress);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+
+            flush(chunk, password, writer, rejectFile, progress);
+
+            long elapsed = System.nanoTime() - startedAt;
+
+            return ImportResult.builder()
+                    .total(progress.total)
+                    .imported(progress.imported)
+                    .rejected(rejectFile.count)
+                    .elapsedMillis(elapsed / 1_000_000)
+                    .rowsPerSecond(rowsPerSecond(progress.total, elapsed))
+                    .rejectFile(rejectFile.path == null ? null : rejectFile.path.toString())
+                    .build();
+        } catch (IOException | UncheckedIOException e) {
+            throw new WebException("가져오기 중 입력을 읽을 수 없습니다.");
+        }
+    }
+
+    private <T> ImportRow<T> parse(long line, String text, Class<T> type, RejectFile rejectFile) throws IOException {
+        JsonNode raw;
+        T request;
+        try {
+            raw = objectMapper.readTree(text);
+            request = objectMapper.treeToValue(raw, type);
+        } catch (JsonProcessingException e) {
+            // 읽지 못한 줄에는 어떤 값이 들어있는지 알 수 없으므로 줄 번호만 남긴다
+            rejectFile.write(new ImportReject(line, List.of("JSON 형식이 올바르지 않습니다."), null));
+            return null;
+        }
+
+        // null 이나 배열, 숫자처럼 객체가 아닌 줄은 검증할 대상이 없으므로 가져오지 않는다
+        if (request == null || !raw.isObject()) {
+            rejectFile.write(new ImportReject(line, List.of("JSON 객체가 아닙니다."), null));
+            return null;
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            rejectFile.write(new ImportReject(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.toList()), raw));
+            return null;
+        }
+
+        return new ImportRow<>(line, raw, request, null);
+    }
+
+    private <T> void flush(List<ImportRow<T>> chunk, Function<T, String> password, ImportWriter<T> writer,
+                           RejectFile rejectFile, Progress progress) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // BCrypt 가 대부분의 시간을 차지하므로 전용 ForkJoinPool 에서 코어 수만큼 나눠 해시한다
+        List<ImportRow<T>> hashed;
+        try {
+            hashed = importHashPool.submit(() -> chunk.parallelStream()
+                    .map(row -> new ImportRow<>(row.getLine(), row.getRaw(), row.getRequest(),
+                            bCryptPasswordEncoder.encode(password.apply(row.getRequest()))))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebException("가져오기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new WebException("비밀번호 해시에 실패했습니다.");
+        }
+
+        List<ImportReject> rejects = writer.write(hashed);
+        for (ImportReject reject : rejects) {
+            rejectFile.write(reject);
+        }
+
+        progress.imported += hashed.size() - rejects.size();
+        progress.log();
+    }
+
+    private static JsonNode withoutSecrets(JsonNode row) {
+        if (row == null || !row.isContainerNode()) {
+            return row;
+        }
+
+        JsonNode copy = row.deepCopy();
+        for (String field : SECRET_FIELDS) {
+            for (JsonNode parent : copy.findParents(field)) {
+                ((ObjectNode) parent).remove(field);
+            }
+        }
+
+        return copy;
+    }
+
+    private static double rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+    }
+
+    private static class Progress {
+
+        private final String name;
+
+        private final long startedAt;
+
+        private long total;
+
+        private long imported;
+
+        private Progress(String name, long startedAt) {
+            this.name = name;
+            this.startedAt = startedAt;
+        }
+
+        private void log() {
+            long elapsed = System.nanoTime() - startedAt;
+            log.info("import {} : read={}, imported={}, rowsPerSecond={}",
+                    name, total, imported, String.format("%.1f", rowsPerSecond(total, elapsed)));
+        }
+
+    }
+
+    // 거절된 행이 처음 나올 때 파일을 만든다
+    private class RejectFile implements AutoCloseable {
+
+        private final String name;
+
+        private Path path;
+
+        private BufferedWriter writer;
+
+        private long count;
+
+        private RejectFile(String name) {
+            this.name = name;
+        }
+
+        private void write(ImportReject reject) throws IOException {
+            if (writer == null) {
+                Files.createDirectories(rejectDir);
+                path = rejectDir.resolve(name + "-import-" + LocalDateTime.now().format(FILE_SUFFIX) + ".rejects.ndjson");
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            }
+
+            writer.write(objectMapper.writeValueAsString(
+                    new ImportReject(reject.getLine(), reject.getErrors(), withoutSecrets(reject.getRow()))));
+            writer.newLine();
+            count++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.jbsapp.web.common.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ImportReject {
+
+    private final long line;
+
+    private final List<String> errors;
+
+    private final JsonNode row;
+
+}
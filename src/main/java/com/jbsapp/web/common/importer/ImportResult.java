@@ -0,0 +1,25 @@
+package com.jbsapp.web.common.importer;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class ImportResult {
+
+    private final long total;
+
+    private final long imported;
+
+    private final long rejected;
+
+    private final long elapsedMillis;
+
+    private final double rowsPerSecond;
+
+    // 거절된 행이 없으면 null
+    private final String rejectFile;
+
+}
@@ -0,0 +1,21 @@
+package com.jbsapp.web.common.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ImportRow<T> {
+
+    private final long line;
+
+    private final JsonNode raw;
+
+    private final T request;
+
+    private final String encodedPassword;
+
+}
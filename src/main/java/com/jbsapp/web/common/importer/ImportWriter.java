@@ -0,0 +1,11 @@
+package com.jbsapp.web.common.importer;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ImportWriter<T> {
+
+    // 한 청크를 저장하고, 저장하지 못한 행은 거절 목록으로 돌려준다
+    List<ImportReject> write(List<ImportRow<T>> chunk);
+
+}
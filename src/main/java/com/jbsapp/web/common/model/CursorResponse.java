@@ -0,0 +1,26 @@
+package com.jbsapp.web.common.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+public class CursorResponse<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private boolean hasPrevious;
+
+    private String nextCursor;
+
+    private String previousCursor;
+
+}
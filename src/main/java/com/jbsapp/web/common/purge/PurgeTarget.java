@@ -0,0 +1,21 @@
+package com.jbsapp.web.common.purge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PurgeTarget {
+
+    BOARD("board", "board_archive",
+            "id, title, content, writer, password, created_date, modified_date"),
+    MEMBER("member", "member_archive",
+            "id, username, password, name, email, provider, provider_id, roles, last_login_date, created_date, modified_date");
+
+    private final String table;
+
+    private final String archiveTable;
+
+    private final String columns;
+
+}
@@ -0,0 +1,151 @@
+package com.jbsapp.web.common.purge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class SoftDeletePurgeJob {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration retention;
+
+    private final int chunkSize;
+
+    private final Duration throttle;
+
+    private final Map<PurgeTarget, Map<String, Object>> stats = new ConcurrentHashMap<>();
+
+    public SoftDeletePurgeJob(NamedParameterJdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${purge.retention:30d}") Duration retention,
+                              @Value("${purge.chunk-size:500}") int chunkSize,
+                              @Value("${purge.throttle:100ms}") Duration throttle) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.throttle = throttle;
+    }
+
+    @Scheduled(initialDelayString = "${purge.initial-delay:PT10M}", fixedDelayString = "${purge.interval:PT1H}")
+    public void run() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention).truncatedTo(ChronoUnit.MICROS);
+
+        for (PurgeTarget target : PurgeTarget.values()) {
+            purge(target, cutoff);
+        }
+    }
+
+    // 삭제된 지 cutoff 가 지난 행을 id 순으로 조금씩 아카이브 테이블로 옮긴다
+    public long purge(PurgeTarget target, LocalDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        Duration lag = lag(target, cutoff);
+
+        long archived = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + target.getTable()
+                            + " WHERE remove_yn = TRUE AND modified_date < :cutoff AND id > :lastId"
+                            + " ORDER BY id LIMIT :limit",
+                    new MapSqlParameterSource()
+                            .addValue("cutoff", cutoff)
+                            .addValue("lastId", lastId)
+                            .addValue("limit", chunkSize),
+                    Long.class);
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            // 청크마다 짧은 트랜잭션으로 끝내서 락을 오래 잡지 않는다
+            Integer moved = transactionTemplate.execute(status -> {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("archivedDate", LocalDateTime.now());
+
+                jdbcTemplate.update(
+                        "INSERT INTO " + target.getArchiveTable() + " (" + target.getColumns() + ", archived_date)"
+                                + " SELECT " + target.getColumns() + ", :archivedDate FROM " + target.getTable()
+                                + " WHERE id IN (:ids)",
+                        params);
+
+                return jdbcTemplate.update("DELETE FROM " + target.getTable() + " WHERE id IN (:ids)", params);
+            });
+
+            archived += moved == null ? 0 : moved;
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize || !sleep()) {
+                break;
+            }
+        }
+
+        record(target, archived, Duration.ofNanos(System.nanoTime() - startedAt), lag);
+
+        return archived;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (PurgeTarget target : PurgeTarget.values()) {
+            result.put(target.getTable(), stats.getOrDefault(target, Map.of()));
+        }
+
+        return result;
+    }
+
+    // 아카이브 대상 중 가장 오래 남아있던 행이 cutoff 를 넘긴 시간
+    private Duration lag(PurgeTarget target, LocalDateTime cutoff) {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(modified_date) FROM " + target.getTable()
+                        + " WHERE remove_yn = TRUE AND modified_date < :cutoff",
+                new MapSqlParameterSource("cutoff", cutoff),
+                LocalDateTime.class);
+
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, cutoff);
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(PurgeTarget target, long archived, Duration elapsed, Duration lag) {
+        double rowsPerSecond = elapsed.isZero() ? 0 : archived * 1_000_000_000d / elapsed.toNanos();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("archived", archived);
+        result.put("elapsedMillis", elapsed.toMillis());
+        result.put("rowsPerSecond", rowsPerSecond);
+        result.put("lagSeconds", lag.getSeconds());
+        result.put("lastRunDate", LocalDateTime.now());
+        stats.put(target, result);
+
+        log.info("purge {} : archived={}, elapsed={}ms, rowsPerSecond={}, lag={}s",
+                target.getTable(), archived, elapsed.toMillis(), String.format("%.1f", rowsPerSecond), lag.getSeconds());
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.jbsapp.web.common.util;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+@Component
+public class DeletedFilter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 현재 트랜잭션의 세션에서 실행되는 조회 쿼리에 removeYn = false 조건을 붙인다 (find 계열은 적용되지 않음)
+    public void apply(String filterName, boolean includeDeleted) {
+        Session session = entityManager.unwrap(Session.class);
+
+        if (includeDeleted) {
+            session.disableFilter(filterName);
+        } else {
+            session.enableFilter(filterName);
+        }
+    }
+
+}
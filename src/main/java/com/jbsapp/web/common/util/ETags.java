@@ -0,0 +1,23 @@
+package com.jbsapp.web.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class ETags {
+
+    public static String strong(Object... parts) {
+        String value = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+
+        return "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static String weak(Object... parts) {
+        return "W/" + strong(parts);
+    }
+
+}
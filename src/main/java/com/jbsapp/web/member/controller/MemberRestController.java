@@ -1,17 +1,25 @@
 package com.jbsapp.web.member.controller;
 
+import com.jbsapp.web.board.model.BoardSummary;
+import com.jbsapp.web.board.service.BoardService;
+import com.jbsapp.web.common.importer.ImportResult;
+import com.jbsapp.web.common.model.CursorResponse;
 import com.jbsapp.web.common.util.WebResponseEntity;
 import com.jbsapp.web.member.domain.Member;
 import com.jbsapp.web.member.model.RegisterRequest;
 import com.jbsapp.web.member.model.UpdateRequest;
+import com.jbsapp.web.member.model.UsernameSuggestion;
 import com.jbsapp.web.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.InputStream;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -21,6 +29,8 @@ public class MemberRestController {
 
     private final MemberService memberService;
 
+    private final BoardService boardService;
+
     @PostMapping("")
     public ResponseEntity<?> join(@Valid @RequestBody RegisterRequest request, BindingResult bindingResult) {
         log.debug("request : {}", request);
@@ -39,6 +49,23 @@ public class MemberRestController {
         return WebResponseEntity.OK(ret);
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam(required = false) String prefix,
+                                     @RequestParam(defaultValue = "5") int size) {
+
+        UsernameSuggestion suggestion = memberService.suggest(prefix, size);
+
+        return WebResponseEntity.OK(suggestion);
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> cacheStats() {
+
+        Map<String, Object> stats = memberService.userCacheStats();
+
+        return WebResponseEntity.OK(stats);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> update(@Valid @RequestBody UpdateRequest request, BindingResult bindingResult, @PathVariable Long id) {
         log.debug("request : {}", request);
@@ -57,6 +84,18 @@ public class MemberRestController {
         return WebResponseEntity.OK(member);
     }
 
+    @GetMapping("/{id}/boards")
+    public ResponseEntity<?> findBoards(@PathVariable String id,
+                                        @RequestParam(required = false) String after,
+                                        @RequestParam(defaultValue = "20") int size) {
+        log.debug("user id : {}", id);
+
+        Member member = memberService.find(id);
+        CursorResponse<BoardSummary> boards = boardService.findAllByWriter(member.getUsername(), after, size);
+
+        return WebResponseEntity.OK(boards);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable String id) {
         log.debug("user id : {}", id);
@@ -66,4 +105,12 @@ public class MemberRestController {
         return WebResponseEntity.OK(member);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> importMembers(InputStream body) {
+
+        ImportResult result = memberService.importMembers(body);
+
+        return WebResponseEntity.OK(result);
+    }
+
 }
@@ -1,7 +1,12 @@
 package com.jbsapp.web.member.domain;
 
+import com.jbsapp.web.common.converter.RolesConverter;
 import com.jbsapp.web.common.domain.Time;
+import com.jbsapp.web.member.username.UsernameListener;
+import com.jbsapp.web.security.Roles;
 import lombok.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -13,8 +18,13 @@ import java.time.LocalDateTime;
 @Builder
 @ToString
 @Entity
+@EntityListeners(UsernameListener.class)
+@FilterDef(name = Member.DELETED_FILTER, defaultCondition = "remove_yn = false")
+@Filter(name = Member.DELETED_FILTER)
 public class Member extends Time {
 
+  public static final String DELETED_FILTER = "deletedMemberFilter";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private long id;
@@ -37,8 +47,9 @@ public class Member extends Time {
   @Column
   private String providerId;
 
+  @Convert(converter = RolesConverter.class)
   @Column
-  private String roles;
+  private Roles roles;
 
   @Column
   private boolean removeYn;
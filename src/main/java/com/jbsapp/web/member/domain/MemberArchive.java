@@ -0,0 +1,55 @@
+package com.jbsapp.web.member.domain;
+
+import com.jbsapp.web.common.converter.RolesConverter;
+import com.jbsapp.web.security.Roles;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@ToString
+@Entity
+@Table(name = "member_archive")
+public class MemberArchive {
+
+  // 원본 회원의 식별자를 그대로 사용한다
+  @Id
+  private long id;
+
+  @Column
+  private String username;
+
+  @Column
+  private String password;
+
+  @Column
+  private String name;
+
+  @Column
+  private String email;
+
+  @Column
+  private String provider;
+
+  @Column
+  private String providerId;
+
+  @Convert(converter = RolesConverter.class)
+  @Column
+  private Roles roles;
+
+  @Column
+  private LocalDateTime lastLoginDate;
+
+  @Column
+  private LocalDateTime createdDate;
+
+  @Column
+  private LocalDateTime modifiedDate;
+
+  @Column
+  private LocalDateTime archivedDate;
+
+}
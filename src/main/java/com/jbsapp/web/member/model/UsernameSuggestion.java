@@ -0,0 +1,20 @@
+package com.jbsapp.web.member.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class UsernameSuggestion {
+
+    private final String username;
+
+    private final boolean available;
+
+    private final List<String> suggestions;
+
+}
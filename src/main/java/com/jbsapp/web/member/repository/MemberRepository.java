@@ -3,7 +3,14 @@ package com.jbsapp.web.member.repository;
 import com.jbsapp.web.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface MemberRepository extends JpaRepository<Member,Long> {
 
     Member findByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    List<Member> findByUsernameIn(Collection<String> usernames);
 }
@@ -1,16 +1,36 @@
 package com.jbsapp.web.member.service;
 
 import com.jbsapp.web.common.exception.WebException;
+import com.jbsapp.web.common.importer.BulkImporter;
+import com.jbsapp.web.common.importer.ImportReject;
+import com.jbsapp.web.common.importer.ImportResult;
+import com.jbsapp.web.common.importer.ImportRow;
+import com.jbsapp.web.common.util.DeletedFilter;
 import com.jbsapp.web.member.domain.Member;
 import com.jbsapp.web.member.model.RegisterRequest;
 import com.jbsapp.web.member.model.UpdateRequest;
+import com.jbsapp.web.member.model.UsernameSuggestion;
 import com.jbsapp.web.member.repository.MemberRepository;
+import com.jbsapp.web.member.username.UsernameFilter;
+import com.jbsapp.web.member.username.UsernameTrie;
 import com.jbsapp.web.security.RoleType;
+import com.jbsapp.web.security.Roles;
+import com.jbsapp.web.security.auth.CaffeineUserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -22,13 +42,25 @@ public class MemberService {
 
 	private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
+	private final DeletedFilter deletedFilter;
+
+	private final BulkImporter bulkImporter;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final UsernameFilter usernameFilter;
+
+	private final UsernameTrie usernameTrie;
+
+	private final CaffeineUserCache userCache;
+
 	public Member join(RegisterRequest request) {
 		Member member = Member.builder()
 				.username(request.getUsername())
 				.password(bCryptPasswordEncoder.encode(request.getPassword()))
 				.name(request.getName())
 				.email(request.getEmail())
-				.roles(RoleType.MEMBER.getValue())
+				.roles(Roles.of(RoleType.MEMBER))
 				.removeYn(false)
 				.build();
 
@@ -39,8 +71,23 @@ public class MemberService {
 		return memberRepository.save(member);
 	}
 
+	// 트랜잭션을 시작하면 필터만 확인하는 경우에도 커넥션을 가져오므로 새 트랜잭션은 시작하지 않고
+	// 필터에 있을 수도 있는 아이디만 리포지토리의 읽기 전용 트랜잭션으로 조회한다
+	// 가입처럼 이미 진행 중인 트랜잭션이 있으면 그 안에서 조회한다
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public boolean isIdDuplicated(String username) {
-		return memberRepository.findByUsername(username) != null;
+		// 필터에 없는 아이디는 DB 조회 없이 바로 사용 가능으로 응답한다
+		if (!usernameFilter.mightContain(username)) {
+			return false;
+		}
+
+		return memberRepository.existsByUsername(username);
+	}
+
+	// DB 를 조회하지 않으므로 트랜잭션 없이 처리한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public UsernameSuggestion suggest(String prefix, int size) {
+		return usernameTrie.suggest(prefix, size);
 	}
 
 	public Member update(UpdateRequest request, Long id) {
@@ -54,11 +101,21 @@ public class MemberService {
 		}
 
 		member.setPassword(encodedNew);
+		userCache.removeUserFromCache(member.getUsername());
 
 		return member;
 	}
 
+	// DB 를 조회하지 않으므로 트랜잭션 없이 처리한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Map<String, Object> userCacheStats() {
+		return userCache.stats();
+	}
+
+	@Transactional(readOnly = true)
 	public Member find(String username) {
+		deletedFilter.apply(Member.DELETED_FILTER, false);
+
 		Member member = memberRepository.findByUsername(username);
 
 		if (member == null) {
@@ -69,6 +126,9 @@ public class MemberService {
 	}
 
 	public Member delete(String username) {
+		// 이미 삭제된 회원인지 구분해야 하므로 필터를 끄고 조회한다
+		deletedFilter.apply(Member.DELETED_FILTER, true);
+
 		Member member = memberRepository.findByUsername(username);
 
 		if (member == null) {
@@ -80,7 +140,46 @@ public class MemberService {
 		}
 
 		member.setRemoveYn(true);
+		userCache.removeUserFromCache(member.getUsername());
 
 		return member;
 	}
+
+	// 청크마다 별도 트랜잭션으로 저장하므로 전체를 하나의 트랜잭션으로 묶지 않는다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ImportResult importMembers(InputStream in) {
+		return bulkImporter.run("member", in, RegisterRequest.class, RegisterRequest::getPassword, chunk -> {
+			Set<String> usernames = chunk.stream()
+					.map(row -> row.getRequest().getUsername())
+					.collect(Collectors.toSet());
+
+			Set<String> taken = memberRepository.findByUsernameIn(usernames).stream()
+					.map(Member::getUsername)
+					.collect(Collectors.toCollection(HashSet::new));
+
+			List<ImportReject> rejects = new ArrayList<>();
+			List<Member> members = new ArrayList<>();
+			for (ImportRow<RegisterRequest> row : chunk) {
+				RegisterRequest request = row.getRequest();
+
+				if (!taken.add(request.getUsername())) {
+					rejects.add(new ImportReject(row.getLine(), List.of("이미 존재하는 아이디입니다."), row.getRaw()));
+					continue;
+				}
+
+				members.add(Member.builder()
+						.username(request.getUsername())
+						.password(row.getEncodedPassword())
+						.name(request.getName())
+						.email(request.getEmail())
+						.roles(Roles.of(RoleType.MEMBER))
+						.removeYn(false)
+						.build());
+			}
+
+			transactionTemplate.executeWithoutResult(status -> memberRepository.saveAll(members));
+
+			return rejects;
+		});
+	}
 }
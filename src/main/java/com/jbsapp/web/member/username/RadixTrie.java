@@ -0,0 +1,131 @@
+package com.jbsapp.web.member.username;
+
+import java.util.Arrays;
+
+// 공통 접두사를 한 간선으로 합친 트라이, 자식은 간선 첫 글자 순으로 정렬된 배열로 들고 있는다
+class RadixTrie {
+
+    private static final String[] NO_LABELS = new String[0];
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+
+    private int size;
+
+    boolean add(String key) {
+        Node node = root;
+        String rest = key;
+
+        while (!rest.isEmpty()) {
+            int index = node.find(rest.charAt(0));
+            if (index < 0) {
+                node.insert(-index - 1, rest, Node.terminal());
+                size++;
+                return true;
+            }
+
+            String label = node.labels[index];
+            int common = commonPrefix(label, rest);
+
+            // 간선 중간에서 갈라지면 공통 부분까지만 남기고 나머지를 새 노드 아래로 내린다
+            if (common < label.length()) {
+                Node split = new Node();
+                split.insert(0, label.substring(common), node.children[index]);
+                node.labels[index] = label.substring(0, common);
+                node.children[index] = split;
+            }
+
+            node = node.children[index];
+            rest = rest.substring(common);
+        }
+
+        if (node.terminal) {
+            return false;
+        }
+
+        node.terminal = true;
+        size++;
+        return true;
+    }
+
+    boolean contains(String key) {
+        Node node = root;
+        String rest = key;
+
+        while (!rest.isEmpty()) {
+            int index = node.find(rest.charAt(0));
+            if (index < 0 || !rest.startsWith(node.labels[index])) {
+                return false;
+            }
+
+            rest = rest.substring(node.labels[index].length());
+            node = node.children[index];
+        }
+
+        return node.terminal;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static final class Node {
+
+        private String[] labels = NO_LABELS;
+
+        private Node[] children = NO_CHILDREN;
+
+        private boolean terminal;
+
+        private static Node terminal() {
+            Node node = new Node();
+            node.terminal = true;
+            return node;
+        }
+
+        // 간선 첫 글자로 이진 탐색, 없으면 삽입 위치를 -(위치 + 1) 로 반환한다
+        private int find(char first) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = labels[mid].charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+
+        private void insert(int index, String label, Node child) {
+            String[] newLabels = Arrays.copyOf(labels, labels.length + 1);
+            Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            newLabels[index] = label;
+            newChildren[index] = child;
+
+            labels = newLabels;
+            children = newChildren;
+        }
+
+    }
+
+}
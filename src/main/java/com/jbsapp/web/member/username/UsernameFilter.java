@@ -0,0 +1,62 @@
+package com.jbsapp.web.member.username;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용 중인 아이디의 Bloom filter, 아이디 중복 확인에서 DB 조회 전에 먼저 확인한다
+// 삭제된 회원의 아이디도 계속 사용 중이므로 제거는 지원하지 않는다
+@Slf4j
+@Component
+public class UsernameFilter {
+
+    private final BloomFilter filter;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong count = new AtomicLong();
+
+    // 기동 시 적재가 끝나기 전에는 항상 DB 를 확인하도록 있다고 답한다
+    private volatile boolean ready;
+
+    public UsernameFilter(@Value("${member.username-filter.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${member.username-filter.fpp:0.01}") double fpp,
+                          JdbcTemplate jdbcTemplate) {
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        CompletableFuture.runAsync(this::warmUp);
+    }
+
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        jdbcTemplate.query("SELECT username FROM member", (RowCallbackHandler) rs -> put(rs.getString(1)));
+        ready = true;
+
+        log.info("username filter warmed up : {} usernames, {} bits, {} hashes in {}ms",
+                count.get(), filter.bitSize(), filter.hashCount(), System.currentTimeMillis() - start);
+    }
+
+    public void put(String username) {
+        if (username != null) {
+            filter.put(username);
+            count.incrementAndGet();
+        }
+    }
+
+    public boolean mightContain(String username) {
+        return !ready || filter.mightContain(username);
+    }
+
+}
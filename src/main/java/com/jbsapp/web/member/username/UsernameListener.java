@@ -0,0 +1,25 @@
+package com.jbsapp.web.member.username;
+
+import com.jbsapp.web.member.domain.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PrePersist;
+
+// 가입, OAuth 가입, 가져오기 등 회원이 저장되는 모든 경로에서 아이디를 필터와 트라이에 추가한다
+// 저장 전에 추가하므로 롤백되더라도 사용 중이라고 잘못 답할 뿐 사용 가능하다고 잘못 답하지는 않는다
+@RequiredArgsConstructor
+@Component
+public class UsernameListener {
+
+    private final UsernameFilter usernameFilter;
+
+    private final UsernameTrie usernameTrie;
+
+    @PrePersist
+    public void prePersist(Member member) {
+        usernameFilter.put(member.getUsername());
+        usernameTrie.add(member.getUsername());
+    }
+
+}
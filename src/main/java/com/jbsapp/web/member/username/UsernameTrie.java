@@ -0,0 +1,118 @@
+package com.jbsapp.web.member.username;
+
+import com.jbsapp.web.common.exception.WebException;
+import com.jbsapp.web.member.model.UsernameSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 사용 중인 아이디 전체를 메모리에 들고 있다가 가입 화면의 아이디 추천을 DB 조회 없이 처리한다
+// 삭제된 회원의 아이디도 계속 사용 중이므로 제거하지 않는다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UsernameTrie {
+
+    private static final int MAX_USERNAME_LENGTH = 10;
+
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private static final int MAX_CANDIDATES = 1000;
+
+    private final RadixTrie trie = new RadixTrie();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean ready;
+
+    // 적재 전에 추천하면 사용 중인 아이디를 추천할 수 있으므로, 트래픽을 받기 전에 동기로 적재한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        jdbcTemplate.query("SELECT username FROM member", (RowCallbackHandler) rs -> add(rs.getString(1)));
+        ready = true;
+
+        log.info("username trie warmed up : {} usernames in {}ms", size(), System.currentTimeMillis() - start);
+    }
+
+    public void add(String username) {
+        if (username == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            trie.add(username);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String username) {
+        lock.readLock().lock();
+        try {
+            return trie.contains(username);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 입력한 아이디 뒤에 숫자를 붙여가며 비어 있는 아이디를 size 개까지 찾는다
+    public UsernameSuggestion suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new WebException("아이디를 입력해주세요.");
+        }
+
+        if (prefix.length() > MAX_USERNAME_LENGTH) {
+            throw new WebException("아이디는 1자 이상 10자 이하입니다.");
+        }
+
+        if (!ready) {
+            throw new WebException("아이디 추천을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+        List<String> suggestions = new ArrayList<>(limit);
+
+        lock.readLock().lock();
+        try {
+            boolean available = !trie.contains(prefix);
+
+            for (int n = 1; n <= MAX_CANDIDATES && suggestions.size() < limit; n++) {
+                String suffix = Integer.toString(n);
+                String base = prefix.substring(0, Math.min(prefix.length(), MAX_USERNAME_LENGTH - suffix.length()));
+                String candidate = base + suffix;
+
+                if (!trie.contains(candidate) && !suggestions.contains(candidate)) {
+                    suggestions.add(candidate);
+                }
+            }
+
+            return new UsernameSuggestion(prefix, available, suggestions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+}
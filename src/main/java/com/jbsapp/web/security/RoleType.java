@@ -1,5 +1,9 @@
 package com.jbsapp.web.security;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+// 선언 순서가 곧 저장되는 비트 위치이므로 새 권한은 항상 마지막에 추가한다
 public enum RoleType {
 
     ANONYMOUS("ROLE_ANONYMOUS"),
@@ -8,11 +12,22 @@ public enum RoleType {
 
     private final String value;
 
+    private final GrantedAuthority authority;
+
     RoleType(String value) {
         this.value = value;
+        this.authority = new SimpleGrantedAuthority(value);
     }
 
     public String getValue() {
         return value;
     }
+
+    public GrantedAuthority getAuthority() {
+        return authority;
+    }
+
+    public int getMask() {
+        return 1 << ordinal();
+    }
 }
@@ -0,0 +1,102 @@
+package com.jbsapp.web.security;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+// 권한 조합을 RoleType 비트마스크로 표현한다
+// 가능한 조합마다 인스턴스를 하나씩 미리 만들어 공유하므로 로그인이나 요청마다 권한 목록을 새로 만들지 않는다
+public final class Roles {
+
+    private static final Roles[] CACHE = new Roles[1 << RoleType.values().length];
+
+    static {
+        for (int mask = 0; mask < CACHE.length; mask++) {
+            CACHE[mask] = new Roles(mask);
+        }
+    }
+
+    private final int mask;
+
+    private final List<GrantedAuthority> authorities;
+
+    private final String value;
+
+    private Roles(int mask) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        StringJoiner value = new StringJoiner(",");
+        for (RoleType type : RoleType.values()) {
+            if ((mask & type.getMask()) != 0) {
+                authorities.add(type.getAuthority());
+                value.add(type.getValue());
+            }
+        }
+
+        this.mask = mask;
+        this.authorities = List.copyOf(authorities);
+        this.value = value.toString();
+    }
+
+    public static Roles of(int mask) {
+        if (mask < 0 || mask >= CACHE.length) {
+            throw new IllegalArgumentException("unknown role mask : " + mask);
+        }
+
+        return CACHE[mask];
+    }
+
+    public static Roles of(RoleType... types) {
+        int mask = 0;
+        for (RoleType type : types) {
+            mask |= type.getMask();
+        }
+
+        return CACHE[mask];
+    }
+
+    // 마스크를 쓰기 전에 발급된 토큰처럼 "ROLE_MEMBER,ROLE_ADMIN" 형식의 문자열을 읽을 때만 사용한다
+    public static Roles parse(String roles) {
+        int mask = 0;
+        for (String role : roles.split(",")) {
+            mask |= find(role.trim()).getMask();
+        }
+
+        return CACHE[mask];
+    }
+
+    private static RoleType find(String value) {
+        for (RoleType type : RoleType.values()) {
+            if (type.getValue().equals(value)) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("unknown role : " + value);
+    }
+
+    public boolean contains(RoleType type) {
+        return (mask & type.getMask()) != 0;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+}
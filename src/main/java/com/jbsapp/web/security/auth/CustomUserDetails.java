@@ -2,13 +2,10 @@ package com.jbsapp.web.security.auth;
 
 import com.jbsapp.web.member.domain.Member;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 
@@ -16,22 +13,19 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
 
     private final Member member;
 
-    Collection<GrantedAuthority> authorities = new ArrayList<>();
-
     private Map<String, Object> attributes;
 
+    // 아직 DB 에 반영되지 않은 로그인 시각까지 포함한 마지막 로그인 시각
+    private volatile LocalDateTime lastLoginDate;
+
     public CustomUserDetails(Member member) {
         this.member = member;
-
-        String[] roles = member.getRoles().split(",");
-        Arrays.stream(roles).forEach(role -> this.authorities.add(new SimpleGrantedAuthority(role)));
+        this.lastLoginDate = member.getLastLoginDate();
     }
 
     public CustomUserDetails(Member member, Map<String, Object> attributes) {
         this.member = member;
-
-        String[] roles = member.getRoles().split(",");
-        Arrays.stream(roles).forEach(role -> this.authorities.add(new SimpleGrantedAuthority(role)));
+        this.lastLoginDate = member.getLastLoginDate();
         this.attributes = attributes;
     }
 
@@ -39,6 +33,12 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
         return this.member;
     }
 
+    public void loggedInAt(LocalDateTime loginDate) {
+        if (lastLoginDate == null || loginDate.isAfter(lastLoginDate)) {
+            lastLoginDate = loginDate;
+        }
+    }
+
     @Override
     public String getPassword() {
         return this.member.getPassword();
@@ -51,11 +51,12 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
 
     @Override
     public boolean isAccountNonExpired() {
-        if (member.getLastLoginDate() == null) {
+        LocalDateTime lastLoginDate = this.lastLoginDate;
+        if (lastLoginDate == null) {
             return true;
         }
         LocalDateTime current = LocalDateTime.now();
-        return !current.minusYears(1).isAfter(member.getLastLoginDate());
+        return !current.minusYears(1).isAfter(lastLoginDate);
     }
 
     @Override
@@ -75,7 +76,8 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.authorities;
+        // 권한 조합마다 공유되는 불변 목록을 그대로 돌려준다
+        return this.member.getRoles().getAuthorities();
     }
 
     @Override
@@ -10,25 +10,27 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
 
-    @Transactional
+    private final LastLoginTracker lastLoginTracker;
+
+    // 마지막 로그인 시각은 LastLoginTracker 가 모아서 반영하므로 조회만 한다
+    @Transactional(readOnly = true)
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Member member = memberRepository.findByUsername(username);
 
-        if (member != null) {
-            member.setLastLoginDate(LocalDateTime.now());
-        } else {
+        if (member == null) {
             throw new JwtException("존재하지 않는 사용자입니다.");
         }
 
-        return new CustomUserDetails(member);
+        CustomUserDetails user = new CustomUserDetails(member);
+        lastLoginTracker.pending(username).ifPresent(user::loggedInAt);
+
+        return user;
     }
 }
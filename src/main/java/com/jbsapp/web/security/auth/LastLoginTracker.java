@@ -0,0 +1,82 @@
+package com.jbsapp.web.security.auth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로그인마다 회원 행을 UPDATE 하지 않고 아이디별 마지막 시각만 모았다가 주기적으로 한 번에 반영한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LastLoginTracker {
+
+    private static final String UPDATE_SQL = "UPDATE member SET last_login_date = ? "
+            + "WHERE username = ? AND (last_login_date IS NULL OR last_login_date < ?)";
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        if (event.getAuthentication().getPrincipal() instanceof CustomUserDetails) {
+            CustomUserDetails user = (CustomUserDetails) event.getAuthentication().getPrincipal();
+            LocalDateTime now = LocalDateTime.now();
+
+            record(user.getUsername(), now);
+            // 캐시된 사용자 정보도 같은 객체이므로 다음 로그인 검사에서 바로 보인다
+            user.loggedInAt(now);
+        }
+    }
+
+    public void record(String username, LocalDateTime loginDate) {
+        pending.merge(username, loginDate, (prev, next) -> next.isAfter(prev) ? next : prev);
+    }
+
+    public Optional<LocalDateTime> pending(String username) {
+        return Optional.ofNullable(pending.get(username));
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${security.last-login.flush-interval:PT5S}")
+    public void flush() {
+        List<Map.Entry<String, LocalDateTime>> entries = new ArrayList<>(pending.entrySet());
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (Map.Entry<String, LocalDateTime> entry : entries) {
+            Timestamp loginDate = Timestamp.valueOf(entry.getValue());
+            rows.add(new Object[]{loginDate, entry.getKey(), loginDate});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, rows));
+        } catch (RuntimeException e) {
+            // 반영하지 못한 시각은 남겨두고 다음 주기에 다시 시도한다
+            log.warn("last login flush failed : {}", e.getMessage());
+            return;
+        }
+
+        // 반영하는 사이 더 최근 로그인이 기록됐다면 다음 주기에 반영되도록 남긴다
+        entries.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.jbsapp.web.security.config;
 
 import com.jbsapp.web.member.repository.MemberRepository;
+import com.jbsapp.web.security.auth.CustomUserDetailsService;
 import com.jbsapp.web.security.jwt.JwtAuthenticationFailureHandler;
 import com.jbsapp.web.security.jwt.JwtAuthenticationFilter;
 import com.jbsapp.web.security.jwt.JwtAuthenticationSuccessHandler;
@@ -10,10 +11,13 @@ import com.jbsapp.web.security.oauth2.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -24,6 +28,21 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final MemberRepository memberRepository;
 
+    private final CustomUserDetailsService customUserDetailsService;
+
+    private final UserCache userCache;
+
+    // 기본 설정과 같은 DaoAuthenticationProvider 에 사용자 캐시만 추가한다
+    @Override
+    protected void configure(AuthenticationManagerBuilder auth) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(customUserDetailsService);
+        provider.setPasswordEncoder(bCryptPasswordEncoder());
+        provider.setUserCache(userCache);
+
+        auth.authenticationProvider(provider);
+    }
+
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         http
@@ -44,6 +63,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .permitAll()
                 .antMatchers("/docs/**")
                 .permitAll()
+                .antMatchers("/api/board/import", "/api/member/import")
+                .hasRole("ADMIN")
                 .antMatchers("/api/member/**")
                 .permitAll()
                 .antMatchers("/test")
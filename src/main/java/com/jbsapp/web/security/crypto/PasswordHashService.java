@@ -0,0 +1,56 @@
+package com.jbsapp.web.security.crypto;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class PasswordHashService {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordHashService(BCryptPasswordEncoder bCryptPasswordEncoder,
+                               @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> bCryptPasswordEncoder.encode(rawPassword), executor);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return CompletableFuture.supplyAsync(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword), executor);
+    }
+
+    // 큐를 넘치지 않도록 스레드 수만큼 묶어서 한 작업씩 제출한다
+    public CompletableFuture<List<String>> encodeAll(List<String> rawPasswords) {
+        int slices = Math.max(1, Math.min(executor.getMaxPoolSize(), rawPasswords.size()));
+        int sliceSize = (rawPasswords.size() + slices - 1) / slices;
+
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int from = 0; from < rawPasswords.size(); from += sliceSize) {
+            List<String> slice = rawPasswords.subList(from, Math.min(from + sliceSize, rawPasswords.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<String> encoded = new ArrayList<>(slice.size());
+                slice.forEach(raw -> encoded.add(bCryptPasswordEncoder.encode(raw)));
+                return encoded;
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<String> encoded = new ArrayList<>(rawPasswords.size());
+                    futures.forEach(future -> encoded.addAll(future.join()));
+                    return encoded;
+                });
+    }
+
+}
@@ -1,30 +1,28 @@
 package com.jbsapp.web.security.jwt;
 
+import com.jbsapp.web.security.Roles;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public class JwtAuthentication implements Authentication {
 
     private final String username;
 
-    private final Collection<GrantedAuthority> authorities = new ArrayList<>();
+    private final Roles roles;
 
     private boolean authenticated;
 
-    public JwtAuthentication(String username, List<String> roles) {
+    public JwtAuthentication(String username, Roles roles) {
         this.username = username;
-        roles.forEach(role -> this.authorities.add(new SimpleGrantedAuthority(role)));
+        this.roles = roles;
         this.authenticated = true;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.authorities;
+        return this.roles.getAuthorities();
     }
 
     @Override
@@ -18,14 +18,11 @@ public class JwtAuthenticationSuccessHandler implements AuthenticationSuccessHan
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        String tmp = customUserDetails.getAuthorities().toString();
-        String roles = tmp.substring(1, tmp.length() - 1);
-
         String authorization = "Bearer " + JWT.create()
                 .withSubject(customUserDetails.getUsername())
                 .withExpiresAt(new Date(System.currentTimeMillis() + 1000 * 60 * 10))
                 .withClaim("username", customUserDetails.getUsername())
-                .withClaim("roles", roles)
+                .withClaim("roles", customUserDetails.getMember().getRoles().getMask())
                 .sign(Algorithm.HMAC512("secret"));
 
         JwtToken jwtToken = new JwtToken(authorization);
@@ -2,7 +2,9 @@ package com.jbsapp.web.security.jwt;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jbsapp.web.security.Roles;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,7 +15,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
 
 public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
@@ -38,9 +39,12 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
         String username = verifiedToken.getClaim("username").asString();
 
-        String roles = verifiedToken.getClaim("roles").asString();
+        // 마스크 도입 전에 발급된 토큰은 만료될 때까지 문자열 권한으로 읽는다
+        Claim claim = verifiedToken.getClaim("roles");
+        Integer mask = claim.asInt();
+        Roles roles = mask != null ? Roles.of(mask) : Roles.parse(claim.asString());
 
-        Authentication authentication = new JwtAuthentication(username, Arrays.asList(roles.split(",")));
+        Authentication authentication = new JwtAuthentication(username, roles);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
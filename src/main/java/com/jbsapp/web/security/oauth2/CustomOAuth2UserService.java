@@ -2,6 +2,8 @@ package com.jbsapp.web.security.oauth2;
 
 import com.jbsapp.web.member.domain.Member;
 import com.jbsapp.web.member.repository.MemberRepository;
+import com.jbsapp.web.security.RoleType;
+import com.jbsapp.web.security.Roles;
 import com.jbsapp.web.security.auth.CustomUserDetails;
 import com.jbsapp.web.security.oauth2.provider.OAuth2UserInfo;
 import lombok.RequiredArgsConstructor;
@@ -50,7 +52,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     .password(password)
                     .name(oAuth2UserInfo.getName())
                     .email(oAuth2UserInfo.getEmail())
-                    .roles("ROLE_MEMBER")
+                    .roles(Roles.of(RoleType.MEMBER))
                     .provider(provider)
                     .providerId(providerId)
                     .build();
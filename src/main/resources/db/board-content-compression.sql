@@ -0,0 +1,5 @@
+-- board.content 를 압축 저장용 바이너리 컬럼으로 변경한다 (MySQL 기준)
+-- 기존 UTF-8 원문은 바이트 그대로 남고, 헤더가 없으므로 그대로도 읽을 수 있다
+-- 변경 후 board.content.migrate-on-startup=true 로 한 번 기동하면 기존 행을 압축 형식으로 다시 쓴다
+ALTER TABLE board MODIFY content VARBINARY(6100);
+ALTER TABLE board_archive MODIFY content VARBINARY(6100);
@@ -0,0 +1,14 @@
+-- board 를 created_date 기준 월 단위 RANGE 파티션 테이블로 변경한다 (MySQL 기준)
+-- 파티션 키는 모든 유니크 키에 포함되어야 하므로 기본키를 (id, created_date) 로 바꾼다
+-- 이후 파티션 추가와 오래된 파티션의 board_cold 이동은 BoardPartitionJob 이 매일 수행한다
+ALTER TABLE board MODIFY created_date DATETIME(6) NOT NULL;
+ALTER TABLE board DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_date);
+ALTER TABLE board PARTITION BY RANGE COLUMNS (created_date) (
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- board_cold 는 읽기 전용이므로 압축 행 형식으로 저장한다
+ALTER TABLE board_cold MODIFY content VARBINARY(6100), ROW_FORMAT = COMPRESSED, KEY_BLOCK_SIZE = 8;
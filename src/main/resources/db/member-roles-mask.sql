@@ -0,0 +1,15 @@
+-- member.roles 를 "ROLE_MEMBER,ROLE_ADMIN" 문자열에서 RoleType 비트마스크 정수로 변경한다 (MySQL 기준)
+-- 비트 위치는 RoleType 선언 순서이다 (ANONYMOUS = 1, MEMBER = 2, ADMIN = 4)
+ALTER TABLE member ADD COLUMN roles_mask INT NULL;
+UPDATE member SET roles_mask =
+        IF(FIND_IN_SET('ROLE_ANONYMOUS', REPLACE(roles, ' ', '')) > 0, 1, 0)
+        | IF(FIND_IN_SET('ROLE_MEMBER', REPLACE(roles, ' ', '')) > 0, 2, 0)
+        | IF(FIND_IN_SET('ROLE_ADMIN', REPLACE(roles, ' ', '')) > 0, 4, 0);
+ALTER TABLE member DROP COLUMN roles, RENAME COLUMN roles_mask TO roles;
+
+ALTER TABLE member_archive ADD COLUMN roles_mask INT NULL;
+UPDATE member_archive SET roles_mask =
+        IF(FIND_IN_SET('ROLE_ANONYMOUS', REPLACE(roles, ' ', '')) > 0, 1, 0)
+        | IF(FIND_IN_SET('ROLE_MEMBER', REPLACE(roles, ' ', '')) > 0, 2, 0)
+        | IF(FIND_IN_SET('ROLE_ADMIN', REPLACE(roles, ' ', '')) > 0, 4, 0);
+ALTER TABLE member_archive DROP COLUMN roles, RENAME COLUMN roles_mask TO roles;
@@ -1,11 +1,25 @@
 package com.jbsapp.web.board.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.jbsapp.web.board.cache.BoardCache;
+import com.jbsapp.web.board.cache.BoardCountCache;
 import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.migration.BoardContentMigration;
+import com.jbsapp.web.board.model.BoardBatchRequest;
 import com.jbsapp.web.board.model.BoardRequest;
 import com.jbsapp.web.board.model.DeleteRequest;
+import com.jbsapp.web.board.partition.BoardPartitionJob;
 import com.jbsapp.web.board.repository.BoardRepository;
+import com.jbsapp.web.board.search.BoardSearchIndex;
+import com.jbsapp.web.board.trending.TrendingBoards;
+import com.jbsapp.web.board.view.BoardViewCounter;
+import com.jbsapp.web.board.writebehind.BoardWriteBehind;
 import com.jbsapp.web.common.config.RestDocConfig;
+import com.jbsapp.web.common.converter.CompressedTextConverter;
+import com.jbsapp.web.common.exception.TooManyRequestsException;
+import com.jbsapp.web.common.purge.PurgeTarget;
+import com.jbsapp.web.common.purge.SoftDeletePurgeJob;
 import com.jbsapp.web.member.model.RegisterRequest;
 import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.AfterEach;
@@ -17,31 +31,60 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
-
-import javax.persistence.EntityManager;
-
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
 @Import(RestDocConfig.class)
-@Transactional
 public class BoardRestControllerTest {
 
     @Autowired
@@ -50,22 +93,75 @@ public class BoardRestControllerTest {
     @Autowired
     BoardRepository boardRepository;
 
-    @Autowired
-    EntityManager entityManager;
-
     @Autowired
     BCryptPasswordEncoder bCryptPasswordEncoder;
 
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    SoftDeletePurgeJob softDeletePurgeJob;
+
+    @Autowired
+    BoardViewCounter boardViewCounter;
+
+    @Autowired
+    BoardContentMigration boardContentMigration;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TrendingBoards trendingBoards;
+
+    @Autowired
+    BoardPartitionJob boardPartitionJob;
+
+    @Autowired
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    BoardCountCache boardCountCache;
+
+    @Autowired
+    BoardCache boardCache;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    // 게시글 id 는 시퀀스에서 받으므로 되돌리지 않고, 테스트는 저장한 게시글의 id 로 검증한다
     @AfterEach
     void destroy() {
-        boardRepository.deleteAll();
-        String resetId = "ALTER TABLE BOARD ALTER COLUMN `ID` RESTART WITH 1";
-        entityManager
-            .createNativeQuery(resetId)
-            .executeUpdate();
+        boardViewCounter.flush();
+        jdbcTemplate.queryForList("SELECT id FROM board UNION ALL SELECT id FROM board_cold", Long.class)
+                .forEach(trendingBoards::remove);
+
+        jdbcTemplate.update("DELETE FROM board");
+        jdbcTemplate.update("DELETE FROM board_cold");
+        jdbcTemplate.update("DELETE FROM board_archive");
+
+        boardSearchIndex.clear();
+        boardCache.clear();
+        boardCountCache.invalidate();
+    }
+
+    // 게시글 등록/수정/삭제는 비밀번호 해시 후 비동기로 응답한다
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private long readId(ResultActions actions, String path) throws Exception {
+        return ((Number) JsonPath.read(actions.andReturn().getResponse().getContentAsString(), path)).longValue();
     }
 
     @Test
@@ -78,7 +174,7 @@ public class BoardRestControllerTest {
                 .password("123456")
                 .build();
 
-        mockMvc.perform(
+        performAsync(
                         post("/api/board")
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -100,10 +196,11 @@ public class BoardRestControllerTest {
                                 fieldWithPath("response.removeYn").type(JsonFieldType.BOOLEAN).description("삭제 여부"),
                                 fieldWithPath("response.createdDate").type(JsonFieldType.STRING).description("생성 날짜"),
                                 fieldWithPath("response.modifiedDate").type(JsonFieldType.STRING).description("수정 날짜"),
+                                fieldWithPath("response.version").type(JsonFieldType.NUMBER).description("버전"),
                                 fieldWithPath("error").description("에러")
                         )))
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is(IsNull.notNullValue())))
                 .andExpect(jsonPath("$.response.title", is("제목")))
                 .andExpect(jsonPath("$.response.content", is("내용")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -271,14 +368,14 @@ public class BoardRestControllerTest {
                 .password("123456")
                 .build();
 
-        mockMvc.perform(
+        performAsync(
                         post("/api/board")
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is(IsNull.notNullValue())))
                 .andExpect(jsonPath("$.response.title", is("제목")))
                 .andExpect(jsonPath("$.response.content", is("내용")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -295,7 +392,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test", roles = "MEMBER")
     void test10() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -303,16 +399,17 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         BoardRequest request = BoardRequest.builder()
                 .title("제목2")
                 .content("내용2")
                 .password("123456")
+                .version(0L)
                 .build();
 
-        mockMvc.perform(
-                        RestDocumentationRequestBuilders.put("/api/board/{id}", 1)
+        performAsync(
+                        RestDocumentationRequestBuilders.put("/api/board/{id}", id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -324,7 +421,8 @@ public class BoardRestControllerTest {
                         relaxedRequestFields(
                                 fieldWithPath("title").type(JsonFieldType.STRING).description("제목"),
                                 fieldWithPath("content").type(JsonFieldType.STRING).description("내용"),
-                                fieldWithPath("password").type(JsonFieldType.STRING).description("비밀번호")
+                                fieldWithPath("password").type(JsonFieldType.STRING).description("비밀번호"),
+                                fieldWithPath("version").type(JsonFieldType.NUMBER).description("조회한 게시글의 버전")
                         ),
                         responseFields(
                                 fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
@@ -336,10 +434,11 @@ public class BoardRestControllerTest {
                                 fieldWithPath("response.removeYn").type(JsonFieldType.BOOLEAN).description("삭제 여부"),
                                 fieldWithPath("response.createdDate").type(JsonFieldType.STRING).description("생성 날짜"),
                                 fieldWithPath("response.modifiedDate").type(JsonFieldType.STRING).description("수정 날짜"),
+                                fieldWithPath("response.version").type(JsonFieldType.NUMBER).description("버전"),
                                 fieldWithPath("error").description("에러")
                         )))
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is((int) id)))
                 .andExpect(jsonPath("$.response.title", is("제목2")))
                 .andExpect(jsonPath("$.response.content", is("내용2")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -356,7 +455,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test", roles = "MEMBER")
     void test11() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -364,16 +462,17 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         BoardRequest request = BoardRequest.builder()
                 .title("제목2")
                 .content("내용2")
                 .password(bCryptPasswordEncoder.encode("123456"))
+                .version(0L)
                 .build();
 
         mockMvc.perform(
-                        put("/api/board/2")
+                        put("/api/board/" + (id + 1))
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -389,7 +488,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test2", roles = "MEMBER")
     void test12() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -397,16 +495,17 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         BoardRequest request = BoardRequest.builder()
                 .title("제목2")
                 .content("내용2")
                 .password("123456")
+                .version(0L)
                 .build();
 
         mockMvc.perform(
-                        put("/api/board/1")
+                        put("/api/board/" + id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -422,7 +521,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test", roles = "MEMBER")
     void test13() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -430,16 +528,17 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         BoardRequest request = BoardRequest.builder()
                 .title("제목2")
                 .content("내용2")
                 .password("111111")
+                .version(0L)
                 .build();
 
-        mockMvc.perform(
-                        put("/api/board/1")
+        performAsync(
+                        put("/api/board/" + id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -454,7 +553,6 @@ public class BoardRestControllerTest {
     @DisplayName("게시글 수정 성공 - 익명 유저")
     void test14() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -462,22 +560,23 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         BoardRequest request = BoardRequest.builder()
                 .title("제목2")
                 .content("내용2")
                 .password("123456")
+                .version(0L)
                 .build();
 
-        mockMvc.perform(
-                        put("/api/board/1")
+        performAsync(
+                        put("/api/board/" + id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is((int) id)))
                 .andExpect(jsonPath("$.response.title", is("제목2")))
                 .andExpect(jsonPath("$.response.content", is("내용2")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -494,7 +593,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test", roles = "MEMBER")
     void test15() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -502,14 +600,14 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         DeleteRequest request = DeleteRequest.builder()
                 .password("123456")
                 .build();
 
-        mockMvc.perform(
-                        RestDocumentationRequestBuilders.delete("/api/board/{id}", 1)
+        performAsync(
+                        RestDocumentationRequestBuilders.delete("/api/board/{id}", id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -519,7 +617,8 @@ public class BoardRestControllerTest {
                                 parameterWithName("id").description("게시글 식별자")
                         ),
                         relaxedRequestFields(
-                                fieldWithPath("password").type(JsonFieldType.STRING).description("비밀번호")
+                                fieldWithPath("password").type(JsonFieldType.STRING).description("비밀번호"),
+                                fieldWithPath("version").type(JsonFieldType.NUMBER).description("조회한 게시글의 버전").optional()
                         ),
                         responseFields(
                                 fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
@@ -531,10 +630,11 @@ public class BoardRestControllerTest {
                                 fieldWithPath("response.removeYn").type(JsonFieldType.BOOLEAN).description("삭제 여부"),
                                 fieldWithPath("response.createdDate").type(JsonFieldType.STRING).description("생성 날짜"),
                                 fieldWithPath("response.modifiedDate").type(JsonFieldType.STRING).description("수정 날짜"),
+                                fieldWithPath("response.version").type(JsonFieldType.NUMBER).description("버전"),
                                 fieldWithPath("error").description("에러")
                         )))
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is((int) id)))
                 .andExpect(jsonPath("$.response.title", is("제목")))
                 .andExpect(jsonPath("$.response.content", is("내용")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -551,7 +651,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test", roles = "MEMBER")
     void test16() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -559,14 +658,15 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         DeleteRequest request = DeleteRequest.builder()
                 .password("123456")
+                .version(0L)
                 .build();
 
         mockMvc.perform(
-                        put("/api/board/2")
+                        put("/api/board/" + (id + 1))
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -582,7 +682,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test2", roles = "MEMBER")
     void test17() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -590,14 +689,14 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         DeleteRequest request = DeleteRequest.builder()
                 .password("123456")
                 .build();
 
         mockMvc.perform(
-                        delete("/api/board/1")
+                        delete("/api/board/" + id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -613,7 +712,6 @@ public class BoardRestControllerTest {
     @WithMockUser(username = "test", roles = "MEMBER")
     void test18() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -621,14 +719,14 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         DeleteRequest request = DeleteRequest.builder()
                 .password("111111")
                 .build();
 
-        mockMvc.perform(
-                        delete("/api/board/1")
+        performAsync(
+                        delete("/api/board/" + id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -643,7 +741,6 @@ public class BoardRestControllerTest {
     @DisplayName("게시글 삭제 성공 - 익명 유저")
     void test19() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -651,20 +748,20 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         DeleteRequest request = DeleteRequest.builder()
                 .password("123456")
                 .build();
 
-        mockMvc.perform(
-                        delete("/api/board/1")
+        performAsync(
+                        delete("/api/board/" + id)
                                 .content(objectMapper.writeValueAsString(request))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is((int) id)))
                 .andExpect(jsonPath("$.response.title", is("제목")))
                 .andExpect(jsonPath("$.response.content", is("내용")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -680,7 +777,6 @@ public class BoardRestControllerTest {
     @DisplayName("게시글 조회 성공 - 하나 조회")
     void test20() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -688,15 +784,15 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         mockMvc.perform(
-                        get("/api/board/1")
+                        get("/api/board/" + id)
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.id", is(1)))
+                .andExpect(jsonPath("$.response.id", is((int) id)))
                 .andExpect(jsonPath("$.response.title", is("제목")))
                 .andExpect(jsonPath("$.response.content", is("내용")))
                 .andExpect(jsonPath("$.response.password", is(IsNull.notNullValue())))
@@ -712,7 +808,6 @@ public class BoardRestControllerTest {
     @DisplayName("게시글 조회 실패 - 하나 조회")
     void test21() throws Exception {
         Board board = Board.builder()
-                .id(1)
                 .title("제목")
                 .content("내용")
                 .password(bCryptPasswordEncoder.encode("123456"))
@@ -720,10 +815,10 @@ public class BoardRestControllerTest {
                 .removeYn(false)
                 .build();
 
-        boardRepository.save(board);
+        long id = boardRepository.save(board).getId();
 
         mockMvc.perform(
-                        get("/api/board/2")
+                        get("/api/board/" + (id + 1))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -737,9 +832,9 @@ public class BoardRestControllerTest {
     @Test
     @DisplayName("게시글 조회 성공 - 여러개 조회 - 기본")
     void test22() throws Exception {
+        List<Long> ids = new ArrayList<>();
         for (int i = 1; i <= 2; i++) {
             Board board = Board.builder()
-                    .id(i)
                     .title("제목" + i)
                     .content("내용")
                     .password(bCryptPasswordEncoder.encode("123456"))
@@ -747,7 +842,7 @@ public class BoardRestControllerTest {
                     .removeYn(false)
                     .build();
 
-            boardRepository.save(board);
+            ids.add(boardRepository.save(board).getId());
         }
 
         mockMvc.perform(
@@ -756,22 +851,20 @@ public class BoardRestControllerTest {
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.content[0].id", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
                 .andExpect(jsonPath("$.response.content[0].title", is("제목1")))
-                .andExpect(jsonPath("$.response.content[0].content", is("내용")))
-                .andExpect(jsonPath("$.response.content[0].password", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.response.content[0].content").doesNotExist())
+                .andExpect(jsonPath("$.response.content[0].password").doesNotExist())
                 .andExpect(jsonPath("$.response.content[0].writer", is("test")))
                 .andExpect(jsonPath("$.response.content[0].removeYn", is(false)))
                 .andExpect(jsonPath("$.response.content[0].createdDate", is(IsNull.notNullValue())))
-                .andExpect(jsonPath("$.response.content[0].modifiedDate", is(IsNull.notNullValue())))
-                .andExpect(jsonPath("$.response.content[1].id", is(2)))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
                 .andExpect(jsonPath("$.response.content[1].title", is("제목2")))
-                .andExpect(jsonPath("$.response.content[1].content", is("내용")))
-                .andExpect(jsonPath("$.response.content[1].password", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.response.content[1].content").doesNotExist())
+                .andExpect(jsonPath("$.response.content[1].password").doesNotExist())
                 .andExpect(jsonPath("$.response.content[1].writer", is("test")))
                 .andExpect(jsonPath("$.response.content[1].removeYn", is(false)))
                 .andExpect(jsonPath("$.response.content[1].createdDate", is(IsNull.notNullValue())))
-                .andExpect(jsonPath("$.response.content[1].modifiedDate", is(IsNull.notNullValue())))
                 .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
         ;
     }
@@ -779,9 +872,9 @@ public class BoardRestControllerTest {
     @Test
     @DisplayName("게시글 조회 성공 - 여러개 조회 - 페이징 비정렬")
     void test23() throws Exception {
+        List<Long> ids = new ArrayList<>();
         for (int i = 1; i <= 3; i++) {
             Board board = Board.builder()
-                    .id(i)
                     .title("제목")
                     .content("내용")
                     .password(bCryptPasswordEncoder.encode("123456"))
@@ -789,7 +882,7 @@ public class BoardRestControllerTest {
                     .removeYn(false)
                     .build();
 
-            boardRepository.save(board);
+            ids.add(boardRepository.save(board).getId());
         }
 
         mockMvc.perform(
@@ -798,7 +891,7 @@ public class BoardRestControllerTest {
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.content[0].id", is(3)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
                 .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
         ;
     }
@@ -806,9 +899,9 @@ public class BoardRestControllerTest {
     @Test
     @DisplayName("게시글 조회 성공 - 여러개 조회 - 페이징 정렬")
     void test24() throws Exception {
+        List<Long> ids = new ArrayList<>();
         for (int i = 1; i <= 3; i++) {
             Board board = Board.builder()
-                    .id(i)
                     .title("제목")
                     .content("내용")
                     .password(bCryptPasswordEncoder.encode("123456"))
@@ -816,7 +909,7 @@ public class BoardRestControllerTest {
                     .removeYn(false)
                     .build();
 
-            boardRepository.save(board);
+            ids.add(boardRepository.save(board).getId());
         }
 
         mockMvc.perform(
@@ -825,9 +918,1663 @@ public class BoardRestControllerTest {
                 )
                 .andDo(print())
                 .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
-                .andExpect(jsonPath("$.response.content[0].id", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 여러개 조회 - 커서")
+    void test25() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/board?mode=cursor&size=2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(2)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(true)))
+                .andExpect(jsonPath("$.response.hasPrevious", is(false)))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.response.nextCursor");
+
+        result = mockMvc.perform(
+                        get("/api/board")
+                                .param("mode", "cursor")
+                                .param("size", "2")
+                                .param("after", nextCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        requestParameters(
+                                parameterWithName("mode").description("조회 방식 (cursor)"),
+                                parameterWithName("size").description("조회 개수"),
+                                parameterWithName("after").description("다음 페이지 커서")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.content").type(JsonFieldType.ARRAY).description("게시글 목록 (보관된 게시글 포함)"),
+                                fieldWithPath("response.size").type(JsonFieldType.NUMBER).description("조회된 개수"),
+                                fieldWithPath("response.hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("response.hasPrevious").type(JsonFieldType.BOOLEAN).description("이전 페이지 존재 여부"),
+                                fieldWithPath("response.nextCursor").description("다음 페이지 커서"),
+                                fieldWithPath("response.previousCursor").description("이전 페이지 커서")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(false)))
+                .andExpect(jsonPath("$.response.hasPrevious", is(true)))
+                .andExpect(jsonPath("$.response.nextCursor", is(IsNull.nullValue())))
+                .andReturn();
+
+        String previousCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.response.previousCursor");
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("mode", "cursor")
+                                .param("size", "2")
+                                .param("before", previousCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.hasPrevious", is(false)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 실패 - 여러개 조회 - 잘못된 커서")
+    void test26() throws Exception {
+        mockMvc.perform(
+                        get("/api/board?mode=cursor&after=invalid")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.INTERNAL_SERVER_ERROR.value())))
+                .andExpect(jsonPath("$.response", is(IsNull.nullValue())))
+                .andExpect(jsonPath("$.error.message", containsString("잘못된 커서입니다.")))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 검색 성공")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test27() throws Exception {
+        String[][] posts = {
+                {"자바 스프링 게시판", "스프링 부트로 게시판 만들기"},
+                {"오늘의 점심", "게시판에 점심 메뉴를 올립니다"},
+                {"Spring Boot", "english content"}
+        };
+
+        List<Long> ids = new ArrayList<>();
+        for (String[] post : posts) {
+            BoardRequest request = BoardRequest.builder()
+                    .title(post[0])
+                    .content(post[1])
+                    .password("123456")
+                    .build();
+
+            ids.add(readId(performAsync(
+                    post("/api/board")
+                            .content(objectMapper.writeValueAsString(request))
+                            .contentType(MediaType.APPLICATION_JSON)
+            ), "$.response.id"));
+        }
+
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .param("q", "게시판")
+                                .param("size", "10")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        requestParameters(
+                                parameterWithName("q").description("검색어"),
+                                parameterWithName("size").description("조회 개수")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.content").type(JsonFieldType.ARRAY).description("게시글 목록"),
+                                fieldWithPath("response.totalElements").type(JsonFieldType.NUMBER).description("검색된 게시글 수 (보관된 게시글 제외)")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(2)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.response.content[0].content").doesNotExist())
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .param("q", "spring")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.totalElements", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 검색 성공 - 삭제된 게시글 제외")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test28() throws Exception {
+        BoardRequest request = BoardRequest.builder()
+                .title("삭제될 게시글")
+                .content("내용")
+                .password("123456")
+                .build();
+
+        long id = readId(performAsync(
+                post("/api/board")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON)
+        ), "$.response.id");
+
+        performAsync(
+                delete("/api/board/" + id)
+                        .content(objectMapper.writeValueAsString(DeleteRequest.builder().password("123456").build()))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .param("q", "게시글")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(0)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 검색 실패 - 검색어 없음")
+    void test29() throws Exception {
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.INTERNAL_SERVER_ERROR.value())))
+                .andExpect(jsonPath("$.error.message", containsString("검색어를 입력해주세요.")))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 캐시 적중 및 수정 시 무효화")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test30() throws Exception {
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            get("/api/board/" + id)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(jsonPath("$.response.title", is("제목")));
+        }
+
+        BoardRequest request = BoardRequest.builder()
+                .title("제목2")
+                .content("내용2")
+                .password("123456")
+                .version(0L)
+                .build();
+
+        performAsync(
+                put("/api/board/" + id)
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        mockMvc.perform(
+                        get("/api/board/" + id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.title", is("제목2")))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board/cache/stats")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.size").type(JsonFieldType.NUMBER).description("캐시된 게시글 수"),
+                                fieldWithPath("response.hitCount").type(JsonFieldType.NUMBER).description("적중 횟수"),
+                                fieldWithPath("response.missCount").type(JsonFieldType.NUMBER).description("실패 횟수"),
+                                fieldWithPath("response.hitRate").type(JsonFieldType.NUMBER).description("적중률"),
+                                fieldWithPath("response.evictionCount").type(JsonFieldType.NUMBER).description("축출 횟수"),
+                                fieldWithPath("error").description("에러")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(1)))
+                .andExpect(jsonPath("$.response.hitCount", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.response.missCount", greaterThanOrEqualTo(2)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 등록 성공")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test31() throws Exception {
+        List<BoardRequest> boards = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            boards.add(BoardRequest.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .password("12345" + i)
+                    .build());
+        }
+
+        BoardBatchRequest request = BoardBatchRequest.builder()
+                .boards(boards)
+                .build();
+
+        ResultActions result = performAsync(
+                        post("/api/board/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        relaxedRequestFields(
+                                fieldWithPath("boards[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("boards[].content").type(JsonFieldType.STRING).description("내용"),
+                                fieldWithPath("boards[].password").type(JsonFieldType.STRING).description("비밀번호")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response[].id").type(JsonFieldType.NUMBER).description("식별자"),
+                                fieldWithPath("response[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("response[].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("response[].removeYn").type(JsonFieldType.BOOLEAN).description("삭제 여부"),
+                                fieldWithPath("response[].createdDate").type(JsonFieldType.STRING).description("생성 날짜"),
+                                fieldWithPath("response[].views").type(JsonFieldType.NUMBER).description("조회수"),
+                                fieldWithPath("error").description("에러")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.length()", is(3)))
+                .andExpect(jsonPath("$.response[0].id", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.response[0].title", is("제목1")))
+                .andExpect(jsonPath("$.response[2].id", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.response[2].writer", is("test")))
                 .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
         ;
+
+        Board saved = boardRepository.findById(readId(result, "$.response[2].id")).orElseThrow();
+        assertThat(bCryptPasswordEncoder.matches("123453", saved.getPassword()), is(true));
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 등록 실패 - 게시글 검증 오류")
+    void test32() throws Exception {
+        BoardBatchRequest request = BoardBatchRequest.builder()
+                .boards(List.of(
+                        BoardRequest.builder().title("제목").content("내용").password("123456").build(),
+                        BoardRequest.builder().content("내용").password("123456").build()))
+                .build();
+
+        mockMvc.perform(
+                        post("/api/board/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$.response", is(IsNull.nullValue())))
+                .andExpect(jsonPath("$.error.message", containsString("제목을 입력해주세요.")))
+        ;
+
+        assertThat(boardRepository.count(), is(0L));
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 등록 실패 - 게시글 없음")
+    void test33() throws Exception {
+        BoardBatchRequest request = BoardBatchRequest.builder()
+                .boards(List.of())
+                .build();
+
+        mockMvc.perform(
+                        post("/api/board/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$.error.message", containsString("등록할 게시글을 입력해주세요.")))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 여러개 조회 - 삭제된 게시글 제외")
+    void test34() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i == 2)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        mockMvc.perform(
+                        get("/api/board?includeDeleted=true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(2)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board?mode=cursor")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(2)))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 여러개 조회 - 관리자 삭제된 게시글 포함")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test35() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i == 2)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        mockMvc.perform(
+                        get("/api/board?includeDeleted=true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(3)))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.content[1].removeYn", is(true)))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글 아카이브 성공")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test36() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i != 3)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        long archived = softDeletePurgeJob.purge(PurgeTarget.BOARD, LocalDateTime.now().plusSeconds(1));
+
+        assertThat(archived, is(2L));
+        assertThat(boardRepository.count(), is(1L));
+
+        mockMvc.perform(
+                        get("/api/board?includeDeleted=true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/board/purge/stats")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.board.archived").type(JsonFieldType.NUMBER).description("마지막 실행에서 아카이브한 행 수"),
+                                fieldWithPath("response.board.elapsedMillis").type(JsonFieldType.NUMBER).description("마지막 실행 소요 시간 (ms)"),
+                                fieldWithPath("response.board.rowsPerSecond").type(JsonFieldType.NUMBER).description("초당 아카이브한 행 수"),
+                                fieldWithPath("response.board.lagSeconds").type(JsonFieldType.NUMBER).description("가장 오래 남아있던 행이 보존 기간을 넘긴 시간 (초)"),
+                                fieldWithPath("response.board.lastRunDate").type(JsonFieldType.STRING).description("마지막 실행 시각")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.board.archived", is(2)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회수 증가 성공")
+    void test37() throws Exception {
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(
+                            get("/api/board/" + id)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andDo(print())
+                    .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                    .andExpect(jsonPath("$.response.id", is((int) id)))
+                    .andExpect(jsonPath("$.response.views", is(i)))
+            ;
+        }
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.content[0].views", is(3)))
+        ;
+
+        boardViewCounter.flush();
+
+        assertThat(boardRepository.findById(id).orElseThrow().getViews(), is(3L));
+        assertThat(boardViewCounter.pending(id), is(0L));
+
+        mockMvc.perform(
+                        get("/api/board/" + id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.views", is(4)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 변경 없으면 304")
+    void test38() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        String eTag = mockMvc.perform(
+                        get("/api/board/" + ids.get(0))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        responseHeaders(
+                                headerWithName("ETag").description("게시글 식별자, 버전, 수정 날짜로 만든 weak ETag (조회수는 포함하지 않음)"),
+                                headerWithName("Last-Modified").description("수정 날짜")
+                        )))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", containsString("W/")))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 조회수만 바뀐 경우에는 304 로 응답한다
+        mockMvc.perform(
+                        get("/api/board/" + ids.get(0))
+                                .header("If-None-Match", eTag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}-not-modified",
+                        requestHeaders(
+                                headerWithName("If-None-Match").description("이전 응답의 ETag, 조회수 변경은 재검증하지 않음")
+                        )))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+        ;
+
+        String listETag = mockMvc.perform(
+                        get("/api/board")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .header("If-None-Match", listETag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+        ;
+
+        mockMvc.perform(
+                        get("/api/board/" + ids.get(1))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        // 조회수가 바뀌었으므로 목록은 다시 응답한다
+        mockMvc.perform(
+                        get("/api/board")
+                                .header("If-None-Match", listETag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content[1].views", is(1)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 내보내기 성공")
+    void test39() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i == 2)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        String body = performAsync(
+                        get("/api/board/export")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString(MediaType.APPLICATION_NDJSON_VALUE)))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines.length, is(2));
+        assertThat(JsonPath.read(lines[0], "$.id"), is(ids.get(0).intValue()));
+        assertThat(JsonPath.read(lines[0], "$.content"), is("내용1"));
+        assertThat(JsonPath.read(lines[1], "$.id"), is(ids.get(2).intValue()));
+        assertThat(body, not(containsString("password")));
+    }
+
+    @Test
+    @DisplayName("게시글 가져오기 성공 - 검증 실패 행 거절")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test40() throws Exception {
+        String body = String.join("\n",
+                "{\"title\":\"제목1\",\"content\":\"내용1\",\"password\":\"123456\",\"writer\":\"legacy\"}",
+                "{\"content\":\"내용2\",\"password\":\"123456\"}",
+                "not json",
+                "{\"title\":\"제목3\",\"content\":\"내용3\",\"password\":\"123456\"}");
+
+        mockMvc.perform(
+                        post("/api/board/import")
+                                .content(body)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.total", is(4)))
+                .andExpect(jsonPath("$.response.imported", is(2)))
+                .andExpect(jsonPath("$.response.rejected", is(2)))
+                .andExpect(jsonPath("$.response.rejectFile", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.totalElements", is(2)))
+                .andExpect(jsonPath("$.response.content[0].writer", is("legacy")))
+                .andExpect(jsonPath("$.response.content[1].title", is("제목3")))
+                .andExpect(jsonPath("$.response.content[1].writer", is("admin")))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 가져오기 실패 - 관리자 아님")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test41() throws Exception {
+        mockMvc.perform(
+                        post("/api/board/import")
+                                .content("{\"title\":\"제목\",\"content\":\"내용\",\"password\":\"123456\"}")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(print())
+                .andExpect(status().isForbidden())
+        ;
+
+        assertThat(boardRepository.count(), is(0L));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 - 버전 충돌")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test42() throws Exception {
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        BoardRequest request = BoardRequest.builder()
+                .title("제목2")
+                .content("내용2")
+                .password("123456")
+                .version(0L)
+                .build();
+
+        performAsync(
+                        put("/api/board/" + id)
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.title", is("제목2")))
+                .andExpect(jsonPath("$.response.version", is(1)))
+        ;
+
+        performAsync(
+                        put("/api/board/" + id)
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(HttpStatus.CONFLICT.value())))
+                .andExpect(jsonPath("$.error.message", is("다른 요청이 먼저 수정했습니다. 다시 조회 후 시도해주세요.")))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 실패 - 버전 충돌, 이미 삭제됨")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test43() throws Exception {
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        DeleteRequest stale = DeleteRequest.builder()
+                .password("123456")
+                .version(5L)
+                .build();
+
+        performAsync(
+                        delete("/api/board/" + id)
+                                .content(objectMapper.writeValueAsString(stale))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(HttpStatus.CONFLICT.value())))
+        ;
+
+        DeleteRequest request = DeleteRequest.builder()
+                .password("123456")
+                .build();
+
+        performAsync(
+                        delete("/api/board/" + id)
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.removeYn", is(true)))
+                .andExpect(jsonPath("$.response.version", is(1)))
+        ;
+
+        Board deleted = boardRepository.findById(id).orElseThrow();
+        assertThat(deleted.isRemoveYn(), is(true));
+        assertThat(deleted.getVersion(), is(1L));
+
+        mockMvc.perform(
+                        delete("/api/board/" + id)
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.error.message", is("이미 삭제된 게시글입니다.")))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 여러개 조회 - 슬라이스")
+    void test44() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/board")
+                                .param("mode", "slice")
+                                .param("page", "0")
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        requestParameters(
+                                parameterWithName("mode").description("조회 방식 (slice)"),
+                                parameterWithName("page").description("페이지 번호"),
+                                parameterWithName("size").description("조회 개수")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.content").type(JsonFieldType.ARRAY).description("게시글 목록 (보관된 게시글 제외)"),
+                                fieldWithPath("response.numberOfElements").type(JsonFieldType.NUMBER).description("조회된 개수"),
+                                fieldWithPath("response.first").type(JsonFieldType.BOOLEAN).description("첫 페이지 여부"),
+                                fieldWithPath("response.last").type(JsonFieldType.BOOLEAN).description("마지막 페이지 여부")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.numberOfElements", is(2)))
+                .andExpect(jsonPath("$.response.last", is(false)))
+                .andExpect(jsonPath("$.response.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board?mode=slice&page=1&size=2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.numberOfElements", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.response.last", is(true)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 조회 성공 - 여러개 조회 - 캐시된 전체 개수")
+    void test45() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+
+            if (i == 3) {
+                mockMvc.perform(
+                                get("/api/board?size=1")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                        )
+                        .andExpect(jsonPath("$.response.totalElements", is(3)));
+            }
+        }
+
+        // 저장소에 직접 저장한 게시글은 캐시가 만료될 때까지 반영되지 않는다
+        mockMvc.perform(
+                        get("/api/board?size=1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.totalElements", is(3)))
+        ;
+
+        BoardRequest request = BoardRequest.builder()
+                .title("제목5")
+                .content("내용5")
+                .password("123456")
+                .build();
+
+        performAsync(
+                        post("/api/board")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+
+        mockMvc.perform(
+                        get("/api/board?size=1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.totalElements", is(5)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 본문 압축 저장 성공")
+    void test46() throws Exception {
+        String content = "안녕하세요. 게시글 내용입니다. 압축해서 저장합니다. ".repeat(20);
+
+        Board board = Board.builder()
+                .title("제목")
+                .content(content)
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        byte[] stored = jdbcTemplate.queryForObject("SELECT content FROM board WHERE id = ?", byte[].class, id);
+        assertThat(stored[0], is((byte) 1));
+        assertThat(stored.length, lessThan(content.getBytes(StandardCharsets.UTF_8).length / 4));
+
+        mockMvc.perform(
+                        get("/api/board/" + id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.content", is(content)))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board/content/stats")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.compressedCount", greaterThanOrEqualTo(1)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 본문 압축 마이그레이션 성공")
+    void test47() throws Exception {
+        String content = "마이그레이션 전에 저장된 원문입니다. ".repeat(20);
+
+        jdbcTemplate.update("INSERT INTO board (id, title, content, writer, password, remove_yn, views, version, created_date, modified_date) VALUES (1, '제목', ?, 'test', 'password', FALSE, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                (Object) content.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(
+                        get("/api/board/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.response.content", is(content)))
+        ;
+
+        assertThat(boardContentMigration.migrate("board"), is(1L));
+        assertThat(boardContentMigration.migrate("board"), is(0L));
+
+        byte[] stored = jdbcTemplate.queryForObject("SELECT content FROM board WHERE id = 1", byte[].class);
+        assertThat(stored[0], is((byte) 1));
+
+        assertThat(boardRepository.findById(1L).orElseThrow().getContent(), is(content));
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 성공")
+    void test48() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        for (int index : new int[]{1, 0, 1, 1}) {
+            mockMvc.perform(
+                            get("/api/board/" + ids.get(index))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+        }
+
+        trendingBoards.refresh();
+
+        mockMvc.perform(
+                        get("/api/board/trending")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response[].id").type(JsonFieldType.NUMBER).description("식별자"),
+                                fieldWithPath("response[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("response[].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("response[].score").type(JsonFieldType.NUMBER).description("시간에 따라 감소하는 인기 점수"),
+                                fieldWithPath("error").description("에러")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.length()", is(2)))
+                .andExpect(jsonPath("$.response[0].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response[0].title", is("제목2")))
+                .andExpect(jsonPath("$.response[1].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("작성자별 게시글 조회 성공 - 커서")
+    void test50() throws Exception {
+        String[] writers = {"test", "test", "other", "test", "test"};
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= writers.length; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer(writers[i - 1])
+                    .removeYn(i == 5)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/board")
+                                .param("writer", "test")
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        requestParameters(
+                                parameterWithName("writer").description("작성자"),
+                                parameterWithName("size").description("조회 개수")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.content[].id").type(JsonFieldType.NUMBER).description("식별자"),
+                                fieldWithPath("response.content[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("response.content[].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("response.size").type(JsonFieldType.NUMBER).description("조회된 개수"),
+                                fieldWithPath("response.hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("response.nextCursor").description("다음 페이지 커서")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(2)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(3).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(true)))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.response.nextCursor");
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("writer", "test")
+                                .param("size", "2")
+                                .param("after", nextCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(false)))
+                .andExpect(jsonPath("$.response.nextCursor", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("오래된 게시글 보관 후 조회 성공")
+    void test51() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        jdbcTemplate.update("UPDATE board SET created_date = ? WHERE id = ?", LocalDateTime.now().minusMonths(6), ids.get(0));
+
+        assertThat(boardPartitionJob.archive(YearMonth.now().minusMonths(2)), is(1L));
+        assertThat(boardRepository.count(), is(1L));
+        assertThat(boardPartitionJob.archive(YearMonth.now().minusMonths(2)), is(0L));
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(2)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(0).intValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board/" + ids.get(0))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.response.title", is("제목1")))
+                .andExpect(jsonPath("$.response.content", is("내용")))
+        ;
+    }
+
+    @Test
+    @DisplayName("오래된 게시글 청크 단위 보관 후 목록, 작성자별 조회, 내보내기 성공")
+    void test52() throws Exception {
+        BoardPartitionJob job = new BoardPartitionJob(namedParameterJdbcTemplate, transactionTemplate,
+                boardCountCache, 3, 2, Duration.ZERO);
+
+        LocalDateTime old = LocalDateTime.now().minusMonths(6).withNano(0);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            Board saved = boardRepository.save(Board.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i == 3)
+                    .build());
+            ids.add(saved.getId());
+
+            if (i <= 5) {
+                jdbcTemplate.update("UPDATE board SET created_date = ? WHERE id = ?", old.plusMinutes(i), saved.getId());
+            }
+        }
+
+        // 청크 크기가 2 이므로 세 번에 나눠 옮긴다
+        assertThat(job.archive(YearMonth.now().minusMonths(2)), is(5L));
+        assertThat(boardRepository.count(), is(2L));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board_cold", Long.class), is(5L));
+        YearMonth oldMonth = YearMonth.from(old.plusMinutes(1));
+        assertThat(jdbcTemplate.queryForObject("SELECT partition_month FROM board_cold WHERE id = ?", Integer.class, ids.get(0)),
+                is(oldMonth.getYear() * 100 + oldMonth.getMonthValue()));
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/board")
+                                .param("page", "0")
+                                .param("size", "10")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        requestParameters(
+                                parameterWithName("page").description("페이지 번호"),
+                                parameterWithName("size").description("조회 개수")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.content").type(JsonFieldType.ARRAY).description("게시글 목록 (최근 게시글 다음에 보관된 게시글)"),
+                                fieldWithPath("response.totalElements").type(JsonFieldType.NUMBER).description("전체 게시글 수 (보관된 게시글 포함)")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.totalElements", is(6)))
+                .andExpect(jsonPath("$.response.content.length()", is(6)))
+        ;
+
+        // 최신순으로 board 의 마지막 페이지를 넘어가면 board_cold 에서 이어서 읽는다
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("page", "1")
+                                .param("size", "3")
+                                .param("sort", "createdDate,desc")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.totalElements", is(6)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(3).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(0).intValue())))
+        ;
+
+        // 오래된 순이면 board_cold 를 먼저 읽는다
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("page", "1")
+                                .param("size", "3")
+                                .param("sort", "createdDate,asc")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(4).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(5).intValue())))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(6).intValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("mode", "slice")
+                                .param("page", "2")
+                                .param("size", "2")
+                                .param("sort", "createdDate,asc")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(5).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(6).intValue())))
+                .andExpect(jsonPath("$.response.last", is(true)))
+        ;
+
+        // 보관된 게시글도 검색된다
+        boardSearchIndex.rebuild();
+
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .param("q", "내용1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.totalElements", is(1)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(0).intValue())))
+        ;
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/board?mode=cursor&size=3")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(6).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(5).intValue())))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(4).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(true)))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.response.nextCursor");
+
+        result = mockMvc.perform(
+                        get("/api/board")
+                                .param("mode", "cursor")
+                                .param("size", "3")
+                                .param("after", nextCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.size", is(3)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(3).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(false)))
+                .andReturn();
+
+        String previousCursor = JsonPath.read(result.getResponse().getContentAsString(), "$.response.previousCursor");
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("mode", "cursor")
+                                .param("size", "3")
+                                .param("before", previousCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(6).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(5).intValue())))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(4).intValue())))
+                .andExpect(jsonPath("$.response.hasPrevious", is(false)))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("writer", "test")
+                                .param("size", "5")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.size", is(5)))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(5).intValue())))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(4).intValue())))
+                .andExpect(jsonPath("$.response.content[4].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.hasNext", is(true)))
+        ;
+
+        String body = performAsync(
+                        get("/api/board/export")
+                )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines.length, is(6));
+        assertThat(JsonPath.read(lines[0], "$.id"), is(ids.get(0).intValue()));
+        assertThat(JsonPath.read(lines[0], "$.content"), is("내용1"));
+        assertThat(JsonPath.read(lines[5], "$.id"), is(ids.get(6).intValue()));
+    }
+
+    @Test
+    @DisplayName("게시글 검색 실패 - 조회 범위 초과")
+    void test53() throws Exception {
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .param("q", "제목")
+                                .param("page", "50")
+                                .param("size", "20")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$.error.message", is("검색 결과는 1000번째까지만 조회할 수 있습니다.")))
+        ;
+
+        mockMvc.perform(
+                        get("/api/board/search")
+                                .param("q", "제목")
+                                .param("page", String.valueOf(Integer.MAX_VALUE))
+                                .param("size", "20")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 - 버전 없음")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test54() throws Exception {
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build());
+
+        BoardRequest request = BoardRequest.builder()
+                .title("제목2")
+                .content("내용2")
+                .password("123456")
+                .build();
+
+        mockMvc.perform(
+                        put("/api/board/" + board.getId())
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$.error.message", is("수정할 게시글의 버전을 입력해주세요.")))
+        ;
+
+        assertThat(boardRepository.findById(board.getId()).get().getTitle(), is("제목"));
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 종료 시 남은 게시글 저장 후 새 요청 거절")
+    void test56() throws Exception {
+        BoardWriteBehind disabled = new BoardWriteBehind(false, 100, 10, entityManagerFactory, jdbcTemplate,
+                transactionTemplate, boardSearchIndex, boardCountCache);
+        disabled.start();
+
+        assertThat(ReflectionTestUtils.getField(disabled, "writer"), is(IsNull.nullValue()));
+        disabled.stop();
+
+        BoardWriteBehind writeBehind = new BoardWriteBehind(true, 100, 10, entityManagerFactory, jdbcTemplate,
+                transactionTemplate, boardSearchIndex, boardCountCache);
+        writeBehind.start();
+
+        String password = bCryptPasswordEncoder.encode("123456");
+        for (int i = 1; i <= 25; i++) {
+            writeBehind.enqueue(Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(password)
+                    .writer("test")
+                    .removeYn(false)
+                    .build());
+        }
+
+        writeBehind.stop();
+
+        assertThat(writeBehind.size(), is(0));
+        assertThat(boardRepository.count(), is(25L));
+        assertThrows(TooManyRequestsException.class, () -> writeBehind.enqueue(Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(password)
+                .writer("test")
+                .removeYn(false)
+                .build()));
+    }
+
+    @Test
+    @DisplayName("보관된 게시글 조회수 반영 성공")
+    void test57() throws Exception {
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        jdbcTemplate.update("UPDATE board SET created_date = ? WHERE id = ?", LocalDateTime.now().minusMonths(6), id);
+        assertThat(boardPartitionJob.archive(YearMonth.now().minusMonths(2)), is(1L));
+
+        for (int i = 1; i <= 2; i++) {
+            mockMvc.perform(
+                            get("/api/board/" + id)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andDo(print())
+                    .andExpect(jsonPath("$.response.views", is(i)))
+            ;
+        }
+
+        boardViewCounter.increment(id + 1);
+        boardViewCounter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM board_cold WHERE id = ?", Long.class, id), is(2L));
+        assertThat(boardViewCounter.pending(id), is(0L));
+        assertThat(boardViewCounter.pending(id + 1), is(0L));
+
+        mockMvc.perform(
+                        get("/api/board/" + id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.response.views", is(3)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 내보내기 성공 - 대량")
+    void test58() throws Exception {
+        String password = bCryptPasswordEncoder.encode("123456");
+        List<Board> boards = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            boards.add(Board.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .password(password)
+                    .writer("test")
+                    .removeYn(false)
+                    .build());
+        }
+
+        List<Long> ids = new ArrayList<>();
+        boardRepository.saveAll(boards).forEach(board -> ids.add(board.getId()));
+
+        String body = performAsync(
+                        get("/api/board/export")
+                )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines.length, is(5000));
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(JsonPath.read(lines[i], "$.id"), is(ids.get(i).intValue()));
+        }
+        assertThat(JsonPath.read(lines[4999], "$.content"), is("내용5000"));
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 성공 - 삭제된 게시글 제외")
+    void test59() throws Exception {
+        List<Board> boards = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i == 2)
+                    .build();
+
+            boards.add(boardRepository.save(board));
+        }
+
+        mockMvc.perform(
+                        get("/api/board/" + boards.get(0).getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+        mockMvc.perform(
+                        get("/api/board/" + boards.get(1).getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+
+        // 삭제 전에 읽어 둔 게시글의 조회가 삭제 뒤에 기록되는 경우
+        trendingBoards.remove(boards.get(0).getId());
+        trendingBoards.record(boards.get(0), TrendingBoards.VIEW_WEIGHT);
+        trendingBoards.refresh();
+
+        mockMvc.perform(
+                        get("/api/board/trending")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.length()", is(0)))
+        ;
+    }
+
+    @Test
+    @DisplayName("게시글 본문 압축 마이그레이션 - 읽은 뒤 수정된 본문은 덮어쓰지 않음")
+    void test60() throws Exception {
+        String content = "마이그레이션 전에 저장된 원문입니다. ".repeat(20);
+        String edited = "마이그레이션 중에 수정한 본문입니다.";
+
+        for (int id = 1; id <= 2; id++) {
+            jdbcTemplate.update("INSERT INTO board (id, title, content, writer, password, remove_yn, views, version, created_date, modified_date) VALUES (?, '제목', ?, 'test', 'password', FALSE, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    id, content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 마이그레이션이 원문을 읽은 직후 사용자가 1번 게시글을 수정한다
+        AtomicBoolean editedOnce = new AtomicBoolean();
+        JdbcTemplate racing = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public List<Map<String, Object>> queryForList(String sql, Object... args) {
+                List<Map<String, Object>> rows = super.queryForList(sql, args);
+                if (editedOnce.compareAndSet(false, true)) {
+                    jdbcTemplate.update("UPDATE board SET content = ? WHERE id = 1",
+                            (Object) new CompressedTextConverter().convertToDatabaseColumn(edited));
+                }
+                return rows;
+            }
+        };
+
+        BoardContentMigration migration = new BoardContentMigration(racing, transactionTemplate, false);
+
+        assertThat(migration.migrate("board"), is(1L));
+        assertThat(boardRepository.findById(1L).orElseThrow().getContent(), is(edited));
+        assertThat(boardRepository.findById(2L).orElseThrow().getContent(), is(content));
+    }
+
+    @Test
+    @DisplayName("게시글 조회수 반영 중 동시에 증가해도 유실 없음")
+    void test61() throws Exception {
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .password(bCryptPasswordEncoder.encode("123456"))
+                .writer("test")
+                .removeYn(false)
+                .build();
+
+        long id = boardRepository.save(board).getId();
+
+        int threads = 4;
+        int increments = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < increments; j++) {
+                        boardViewCounter.increment(id);
+                    }
+                }));
+            }
+
+            // 증가하는 중에 맵을 여러 번 바꾼다
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                boardViewCounter.flush();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        boardViewCounter.flush();
+
+        assertThat(boardRepository.findById(id).orElseThrow().getViews(), is((long) threads * increments));
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 성공 - 관리자 삭제된 게시글 포함")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test62() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Board board = Board.builder()
+                    .title("제목" + i)
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer("test")
+                    .removeYn(i == 2)
+                    .build();
+
+            ids.add(boardRepository.save(board).getId());
+        }
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("mode", "cursor")
+                                .param("includeDeleted", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(3)))
+                .andExpect(jsonPath("$.response.content[0].id", is(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.response.content[1].id", is(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.response.content[1].removeYn", is(true)))
+                .andExpect(jsonPath("$.response.content[2].id", is(ids.get(0).intValue())))
+        ;
+
+        // 삭제 여부 조건이 없으면 (createdDate, id) 인덱스로 정렬 없이 읽는다
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM board WHERE created_date < CURRENT_TIMESTAMP ORDER BY created_date DESC, id DESC LIMIT 21",
+                String.class);
+        assertThat(plan, containsString("IDX_BOARD_CREATED_DATE_ID"));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 실패 - 허용되지 않은 정렬 기준")
+    void test63() throws Exception {
+        for (String sort : List.of("password,asc", "unknown,desc")) {
+            mockMvc.perform(
+                            get("/api/board")
+                                    .param("sort", sort)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andDo(print())
+                    .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())))
+            ;
+        }
+
+        mockMvc.perform(
+                        get("/api/board")
+                                .param("sort", "title,asc")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+        ;
     }
 
 }
@@ -0,0 +1,77 @@
+package com.jbsapp.web.board.search;
+
+import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.repository.BoardColdRepository;
+import com.jbsapp.web.board.repository.BoardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardSearchIndexTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardColdRepository boardColdRepository;
+
+    @InjectMocks
+    private BoardSearchIndex boardSearchIndex;
+
+    @Test
+    @DisplayName("재구축 중 실시간 수정, 삭제가 재구축이 읽은 예전 내용보다 우선")
+    public void test01() {
+        // given
+        Board edited = Board.builder().id(1L).title("예전 제목").content("예전 내용").build();
+        Board deleted = Board.builder().id(2L).title("삭제될 제목").content("예전 내용").build();
+
+        // 재구축이 게시글을 읽은 뒤 반영하기 전에 수정과 삭제가 먼저 반영된다
+        when(boardRepository.findByIdGreaterThanAndRemoveYnFalseOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    boardSearchIndex.index(1L, "새 제목", "새 내용");
+                    boardSearchIndex.remove(2L);
+                    return List.of(edited, deleted);
+                });
+
+        // when
+        boardSearchIndex.rebuild();
+
+        // then
+        assertThat(boardSearchIndex.search("예전", 0, 10).getTotal(), is(0));
+        assertThat(boardSearchIndex.search("제목", 0, 10).getTotal(), is(1));
+
+        // 재구축이 끝난 뒤에는 다시 그대로 반영된다
+        boardSearchIndex.index(2L, "다시 쓴 제목", "내용");
+        assertThat(boardSearchIndex.search("다시", 0, 10).getTotal(), is(1));
+    }
+
+    @Test
+    @DisplayName("큰 offset 으로 검색해도 일치하는 문서 수 이상 힙을 잡지 않음")
+    public void test02() {
+        // given
+        boardSearchIndex.index(1L, "제목", "내용");
+
+        // when
+        SearchResult far = boardSearchIndex.search("제목", 100_000_000, 20);
+        SearchResult overflow = boardSearchIndex.search("제목", Integer.MAX_VALUE, 20);
+
+        // then
+        assertThat(far.getTotal(), is(1));
+        assertThat(far.getHits().size(), is(0));
+        assertThat(overflow.getHits().size(), is(0));
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.jbsapp.web.board.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.jbsapp.web.board.cache.BoardCache;
+import com.jbsapp.web.board.cache.BoardCountCache;
+import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.model.BoardRequest;
+import com.jbsapp.web.board.repository.BoardRepository;
+import com.jbsapp.web.board.search.BoardSearchIndex;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 쓰기 지연 모드는 설정으로 켜고, 쓰기 스레드가 다른 테스트 컨텍스트에 남지 않도록 끝나면 컨텍스트를 닫는다
+@SpringBootTest(properties = "board.write-behind.enabled=true")
+@AutoConfigureMockMvc
+@DirtiesContext
+public class BoardWriteBehindTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BoardWriteBehind boardWriteBehind;
+
+    @Autowired
+    BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    BoardCache boardCache;
+
+    @Autowired
+    BoardCountCache boardCountCache;
+
+    @AfterEach
+    void destroy() {
+        jdbcTemplate.update("DELETE FROM board");
+
+        boardSearchIndex.clear();
+        boardCache.clear();
+        boardCountCache.invalidate();
+    }
+
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 모드 게시글 등록 후 바로 조회 성공")
+    @WithMockUser(username = "test", roles = "MEMBER")
+    void test01() throws Exception {
+        assertThat(boardWriteBehind.isEnabled(), is(true));
+
+        BoardRequest request = BoardRequest.builder()
+                .title("제목")
+                .content("내용")
+                .password("123456")
+                .build();
+
+        String response = performAsync(
+                        post("/api/board")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.id", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.response.writer", is("test")))
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(response, "$.response.id")).longValue();
+
+        mockMvc.perform(
+                        get("/api/board/" + id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.title", is("제목")))
+                .andExpect(jsonPath("$.response.content", is("내용")))
+        ;
+
+        for (int i = 0; i < 50 && boardRepository.count() == 0; i++) {
+            Thread.sleep(100);
+        }
+
+        Board saved = boardRepository.findById(id).orElseThrow();
+        assertThat(saved.getTitle(), is("제목"));
+        assertThat(saved.getCreatedDate(), is(IsNull.notNullValue()));
+        assertThat(bCryptPasswordEncoder.matches("123456", saved.getPassword()), is(true));
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 일괄 저장 실패 시 실패한 게시글만 제외")
+    void test02() throws Exception {
+        String password = bCryptPasswordEncoder.encode("123456");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 41; i++) {
+            Board board = Board.builder()
+                    .title(i == 21 ? "가".repeat(300) : "제목" + i)
+                    .content("내용")
+                    .password(password)
+                    .writer("test")
+                    .removeYn(false)
+                    .build();
+
+            ids.add(boardWriteBehind.enqueue(board).getId());
+        }
+
+        for (int i = 0; i < 100 && ids.stream().anyMatch(id -> boardWriteBehind.find(id) != null); i++) {
+            Thread.sleep(100);
+        }
+
+        assertThat(boardRepository.count(), is(40L));
+        assertThat(boardRepository.findById(ids.get(20)).isPresent(), is(false));
+        assertThat(boardRepository.findById(ids.get(21)).isPresent(), is(true));
+        assertThat(boardWriteBehind.find(ids.get(20)), is(IsNull.nullValue()));
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.jbsapp.web.common.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+// 복제 지연은 레플리카의 replication_lag 테이블 값으로 흉내낸다
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:replica",
+        "datasource.replica.lag-query=SELECT lag_seconds FROM replication_lag"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ReplicationRoutingDataSourceTest {
+
+    private static final String DATABASE_QUERY = "SELECT DATABASE()";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    private void lag(long seconds) {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replication_lag (lag_seconds BIGINT)");
+        replica.update("DELETE FROM replication_lag");
+        replica.update("INSERT INTO replication_lag VALUES (?)", seconds);
+
+        replicaLagMonitor.check();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_QUERY, String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 나머지는 프라이머리 사용")
+    void test01() {
+        lag(0);
+
+        assertThat(currentDatabase(true), is("REPLICA"));
+        assertThat(currentDatabase(false), is("TESTDB"));
+        assertThat(jdbcTemplate.queryForObject(DATABASE_QUERY, String.class), is("TESTDB"));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 프라이머리 사용")
+    void test02() {
+        lag(60);
+
+        assertThat(replicaLagMonitor.isAvailable(), is(false));
+        assertThat(currentDatabase(true), is("TESTDB"));
+
+        lag(0);
+
+        assertThat(currentDatabase(true), is("REPLICA"));
+    }
+
+    @Test
+    @DisplayName("레플리카 점검에 실패하면 프라이머리 사용")
+    void test03() {
+        new JdbcTemplate(replicaDataSource).execute("DROP TABLE IF EXISTS replication_lag");
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isAvailable(), is(false));
+        assertThat(currentDatabase(true), is("TESTDB"));
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.jbsapp.web.common.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class StreamingFetchSizeTest {
+
+    @Test
+    @DisplayName("MySQL URL 에 useCursorFetch 가 없으면 행 단위 스트리밍 사용")
+    void test01() {
+        assertThat(new StreamingFetchSize(500, "jdbc:mysql://localhost:3306/jbsapp", false, "").get(),
+                is(Integer.MIN_VALUE));
+        assertThat(new StreamingFetchSize(500, "jdbc:mysql://localhost:3306/jbsapp?useCursorFetch=true", true,
+                "jdbc:mysql://replica:3306/jbsapp").get(), is(Integer.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("useCursorFetch 가 있거나 MySQL 이 아니면 설정한 fetch size 사용")
+    void test02() {
+        assertThat(new StreamingFetchSize(500, "jdbc:mysql://localhost:3306/jbsapp?useCursorFetch=true", true,
+                "jdbc:mysql://replica:3306/jbsapp?useSSL=false&useCursorFetch=true").get(), is(500));
+        assertThat(new StreamingFetchSize(500, "jdbc:h2:mem:testdb", false, "").get(), is(500));
+    }
+
+}
@@ -1,11 +1,18 @@
 package com.jbsapp.web.memeber.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jbsapp.web.board.domain.Board;
+import com.jbsapp.web.board.repository.BoardRepository;
 import com.jbsapp.web.common.config.RestDocConfig;
+import com.jbsapp.web.common.purge.PurgeTarget;
+import com.jbsapp.web.common.purge.SoftDeletePurgeJob;
 import com.jbsapp.web.member.domain.Member;
 import com.jbsapp.web.member.model.RegisterRequest;
 import com.jbsapp.web.member.model.UpdateRequest;
 import com.jbsapp.web.member.repository.MemberRepository;
+import com.jbsapp.web.member.username.UsernameFilter;
+import com.jbsapp.web.security.RoleType;
+import com.jbsapp.web.security.Roles;
 import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,17 +27,31 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManager;
-
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -54,6 +75,18 @@ public class MemberRestControllerTest {
     @Autowired
     BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    UsernameFilter usernameFilter;
+
+    @Autowired
+    SoftDeletePurgeJob softDeletePurgeJob;
+
     @AfterEach
     void destroy() {
         memberRepository.deleteAll();
@@ -330,7 +363,7 @@ public class MemberRestControllerTest {
                 .password(bCryptPasswordEncoder.encode("test1234!"))
                 .name("테스트")
                 .email("test1234@test.com")
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         UpdateRequest request = UpdateRequest.builder()
@@ -392,7 +425,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         UpdateRequest request = UpdateRequest.builder()
@@ -422,7 +455,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         UpdateRequest request = UpdateRequest.builder()
@@ -452,7 +485,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         mockMvc.perform(
@@ -475,7 +508,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test1234")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         mockMvc.perform(
@@ -495,7 +528,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .removeYn(false)
                 .build());
 
@@ -522,7 +555,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test1234")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .removeYn(false)
                 .build());
 
@@ -543,7 +576,7 @@ public class MemberRestControllerTest {
                 .id(1L)
                 .username("test")
                 .password(bCryptPasswordEncoder.encode("test1234!"))
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .removeYn(true)
                 .build());
 
@@ -556,4 +589,306 @@ public class MemberRestControllerTest {
                 .andExpect(jsonPath("$.error.message", is("이미 삭제된 회원입니다.")))
         ;
     }
+
+    @Test
+    @DisplayName("회원 조회 실패 - 삭제된 회원 조회")
+    void test19() throws Exception {
+        memberRepository.save(Member.builder()
+                .id(1L)
+                .username("test")
+                .password(bCryptPasswordEncoder.encode("test1234!"))
+                .roles(Roles.of(RoleType.MEMBER))
+                .removeYn(true)
+                .build());
+
+        mockMvc.perform(
+                        get("/api/member/test")
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.INTERNAL_SERVER_ERROR.value())))
+                .andExpect(jsonPath("$.response", is(IsNull.nullValue())))
+                .andExpect(jsonPath("$.error.message", is("존재하지 않는 회원입니다.")))
+        ;
+    }
+
+    @Test
+    @DisplayName("회원 가져오기 성공 - 검증 실패, 중복 아이디 거절")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test20() throws Exception {
+        String body = String.join("\n",
+                "{\"username\":\"import1\",\"password\":\"test1234!\",\"name\":\"가져오기\",\"email\":\"import1@test.com\"}",
+                "{\"username\":\"import2\",\"password\":\"1234\",\"name\":\"가져오기\",\"email\":\"import2@test.com\"}",
+                "{\"username\":\"import1\",\"password\":\"test1234!\",\"name\":\"가져오기\",\"email\":\"import3@test.com\"}",
+                "{\"username\":\"import4\",\"password\":\"test1234!\",\"name\":\"가져오기\",\"email\":\"import4@test.com\"}");
+
+        mockMvc.perform(
+                        post("/api/member/import")
+                                .content(body)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.total").type(JsonFieldType.NUMBER).description("읽은 행 수"),
+                                fieldWithPath("response.imported").type(JsonFieldType.NUMBER).description("저장된 행 수"),
+                                fieldWithPath("response.rejected").type(JsonFieldType.NUMBER).description("거절된 행 수"),
+                                fieldWithPath("response.elapsedMillis").type(JsonFieldType.NUMBER).description("소요 시간(ms)"),
+                                fieldWithPath("response.rowsPerSecond").type(JsonFieldType.NUMBER).description("초당 처리 행 수"),
+                                fieldWithPath("response.rejectFile").type(JsonFieldType.STRING).description("거절된 행을 기록한 파일 경로").optional(),
+                                fieldWithPath("error").description("에러")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.total", is(4)))
+                .andExpect(jsonPath("$.response.imported", is(2)))
+                .andExpect(jsonPath("$.response.rejected", is(2)))
+                .andExpect(jsonPath("$.response.rejectFile", is(IsNull.notNullValue())))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        assertThat(memberRepository.findByUsername("import4"), is(IsNull.notNullValue()));
+        assertThat(memberRepository.findByUsername("import2"), is(IsNull.nullValue()));
+
+        // 가져오기는 테스트 트랜잭션 밖에서 커밋되므로 별도 트랜잭션으로 정리한다
+        TransactionTemplate cleanup = new TransactionTemplate(transactionManager);
+        cleanup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        cleanup.executeWithoutResult(status -> memberRepository.deleteAllInBatch());
+    }
+
+    @Test
+    @DisplayName("회원 게시글 조회 성공")
+    void test21() throws Exception {
+        memberRepository.save(Member.builder()
+                .username("test")
+                .password(bCryptPasswordEncoder.encode("test1234!"))
+                .roles(Roles.of(RoleType.MEMBER))
+                .removeYn(false)
+                .build());
+
+        for (String writer : new String[]{"test", "other", "test"}) {
+            boardRepository.save(Board.builder()
+                    .title(writer + " 제목")
+                    .content("내용")
+                    .password(bCryptPasswordEncoder.encode("123456"))
+                    .writer(writer)
+                    .removeYn(false)
+                    .build());
+        }
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/member/{id}/boards", "test")
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        pathParameters(
+                                parameterWithName("id").description("아이디")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.content[].id").type(JsonFieldType.NUMBER).description("식별자"),
+                                fieldWithPath("response.content[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("response.size").type(JsonFieldType.NUMBER).description("조회된 개수"),
+                                fieldWithPath("response.hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("response.nextCursor").description("다음 페이지 커서")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", is(2)))
+                .andExpect(jsonPath("$.response.content[0].writer", is("test")))
+                .andExpect(jsonPath("$.response.content[1].writer", is("test")))
+                .andExpect(jsonPath("$.response.hasNext", is(false)))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("아이디 중복 확인 - 가입 후 필터 반영")
+    void test22() throws Exception {
+        usernameFilter.warmUp();
+        assertThat(usernameFilter.mightContain("newbie"), is(false));
+
+        mockMvc.perform(
+                        get("/api/member/check/newbie")
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response", is(false)))
+        ;
+
+        RegisterRequest request = RegisterRequest.builder()
+                .username("newbie")
+                .password("test1234!")
+                .name("테스트")
+                .email("newbie@test.com")
+                .build();
+
+        mockMvc.perform(
+                        post("/api/member")
+                                .content(new ObjectMapper().writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+
+        assertThat(usernameFilter.mightContain("newbie"), is(true));
+
+        mockMvc.perform(
+                        get("/api/member/check/newbie")
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response", is(true)))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+    }
+
+    @Test
+    @DisplayName("아이디 추천 성공")
+    void test23() throws Exception {
+        for (String username : new String[]{"test", "test1", "tester", "test3"}) {
+            memberRepository.save(Member.builder()
+                    .username(username)
+                    .password(bCryptPasswordEncoder.encode("test1234!"))
+                    .roles(Roles.of(RoleType.MEMBER))
+                    .removeYn(false)
+                    .build());
+        }
+
+        mockMvc.perform(
+                        get("/api/member/suggest")
+                                .param("prefix", "test")
+                                .param("size", "3")
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        requestParameters(
+                                parameterWithName("prefix").description("입력한 아이디"),
+                                parameterWithName("size").description("추천 개수")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.username").type(JsonFieldType.STRING).description("입력한 아이디"),
+                                fieldWithPath("response.available").type(JsonFieldType.BOOLEAN).description("사용 가능 여부"),
+                                fieldWithPath("response.suggestions").type(JsonFieldType.ARRAY).description("사용 가능한 추천 아이디"),
+                                fieldWithPath("error").description("에러")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.available", is(false)))
+                .andExpect(jsonPath("$.response.suggestions", contains("test2", "test4", "test5")))
+                .andExpect(jsonPath("$.error", is(IsNull.nullValue())))
+        ;
+
+        mockMvc.perform(
+                        get("/api/member/suggest")
+                                .param("prefix", "tes")
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.available", is(true)))
+                .andExpect(jsonPath("$.response.suggestions.length()", is(5)))
+        ;
+    }
+
+    @Test
+    @DisplayName("회원 가져오기 - 거절 파일에 비밀번호와 읽지 못한 줄을 남기지 않음")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test24() throws Exception {
+        String body = String.join("\n",
+                "{\"username\":\"secret1\",\"password\":\"leak-1234!\",\"name\":\"가져오기\",\"email\":\"secret1@test.com\"}",
+                "{\"username\":\"secret2\",\"password\":\"leak\",\"name\":\"가져오기\",\"email\":\"secret2@test.com\"}",
+                "{\"username\":\"secret1\",\"password\":\"leak-5678!\",\"name\":\"가져오기\",\"email\":\"secret3@test.com\"}",
+                "{\"username\":\"secret4\",\"password\":\"leak-broken");
+
+        String response = mockMvc.perform(
+                        post("/api/member/import")
+                                .content(body)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.imported", is(1)))
+                .andExpect(jsonPath("$.response.rejected", is(3)))
+                .andReturn().getResponse().getContentAsString();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path rejectFile = Paths.get(objectMapper.readTree(response).path("response").path("rejectFile").asText());
+        List<String> rejects = Files.readAllLines(rejectFile, StandardCharsets.UTF_8);
+        Files.deleteIfExists(rejectFile);
+
+        assertThat(rejects.size(), is(3));
+        for (String reject : rejects) {
+            assertThat(reject, not(containsString("password")));
+            assertThat(reject, not(containsString("leak")));
+        }
+        assertThat(objectMapper.readTree(rejects.get(0)).path("row").path("username").asText(), is("secret2"));
+        assertThat(objectMapper.readTree(rejects.get(1)).path("line").asLong(), is(4L));
+        assertThat(objectMapper.readTree(rejects.get(1)).path("row").isNull(), is(true));
+
+        TransactionTemplate cleanup = new TransactionTemplate(transactionManager);
+        cleanup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        cleanup.executeWithoutResult(status -> memberRepository.deleteAllInBatch());
+    }
+
+    @Test
+    @DisplayName("삭제된 회원 아카이브 성공 - 보존 기간이 지나지 않은 회원은 남김")
+    void test25() throws Exception {
+        for (String username : List.of("expired", "recent", "active")) {
+            memberRepository.saveAndFlush(Member.builder()
+                    .username(username)
+                    .password(bCryptPasswordEncoder.encode("test1234!"))
+                    .name("테스트")
+                    .email(username + "@test.com")
+                    .roles(Roles.of(RoleType.MEMBER))
+                    .removeYn(!"active".equals(username))
+                    .build());
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        entityManager.createNativeQuery("UPDATE member SET modified_date = ? WHERE username = 'expired'")
+                .setParameter(1, cutoff.minusDays(1))
+                .executeUpdate();
+
+        assertThat(softDeletePurgeJob.purge(PurgeTarget.MEMBER, cutoff), is(1L));
+
+        List<?> remaining = entityManager.createNativeQuery("SELECT username FROM member ORDER BY username").getResultList();
+        assertThat(remaining, contains("active", "recent"));
+
+        List<?> archived = entityManager.createNativeQuery("SELECT username FROM member_archive").getResultList();
+        assertThat(archived, contains("expired"));
+    }
+
+    @Test
+    @DisplayName("회원 가져오기 - 객체가 아닌 줄은 거절하고 계속 진행")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void test26() throws Exception {
+        String body = String.join("\n",
+                "null",
+                "{\"username\":\"imported\",\"password\":\"test1234!\",\"name\":\"가져오기\",\"email\":\"imported@test.com\"}",
+                "[1, 2]",
+                "\"text\"");
+
+        String response = mockMvc.perform(
+                        post("/api/member/import")
+                                .content(body)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.imported", is(1)))
+                .andExpect(jsonPath("$.response.rejected", is(3)))
+                .andReturn().getResponse().getContentAsString();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path rejectFile = Paths.get(objectMapper.readTree(response).path("response").path("rejectFile").asText());
+        List<String> rejects = Files.readAllLines(rejectFile, StandardCharsets.UTF_8);
+        Files.deleteIfExists(rejectFile);
+
+        assertThat(rejects.size(), is(3));
+        assertThat(objectMapper.readTree(rejects.get(0)).path("line").asLong(), is(1L));
+        assertThat(objectMapper.readTree(rejects.get(0)).path("errors").get(0).asText(), is("JSON 객체가 아닙니다."));
+        assertThat(objectMapper.readTree(rejects.get(1)).path("line").asLong(), is(3L));
+        assertThat(objectMapper.readTree(rejects.get(2)).path("line").asLong(), is(4L));
+
+        TransactionTemplate cleanup = new TransactionTemplate(transactionManager);
+        cleanup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        cleanup.executeWithoutResult(status -> memberRepository.deleteAllInBatch());
+    }
 }
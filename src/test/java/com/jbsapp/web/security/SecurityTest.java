@@ -7,7 +7,9 @@ import com.jbsapp.web.board.model.BoardRequest;
 import com.jbsapp.web.common.config.RestDocConfig;
 import com.jbsapp.web.member.domain.Member;
 import com.jbsapp.web.member.model.LoginRequest;
+import com.jbsapp.web.member.model.UpdateRequest;
 import com.jbsapp.web.member.repository.MemberRepository;
+import com.jbsapp.web.security.auth.LastLoginTracker;
 import com.jbsapp.web.security.jwt.JwtToken;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,9 +35,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -58,10 +64,16 @@ public class SecurityTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    UserCache userCache;
+
+    @Autowired
+    LastLoginTracker lastLoginTracker;
+
     @AfterEach
     void destroy() {
         memberRepository.deleteAll();
-        String resetId = "ALTER TABLE BOARD ALTER COLUMN `ID` RESTART WITH 1";
+        String resetId = "ALTER TABLE MEMBER ALTER COLUMN `ID` RESTART WITH 1";
         entityManager
                 .createNativeQuery(resetId)
                 .executeUpdate();
@@ -76,7 +88,7 @@ public class SecurityTest {
                 .password(bCryptPasswordEncoder.encode("test1234!"))
                 .name("테스트")
                 .email("test1234@test.com")
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         LoginRequest request = LoginRequest.builder()
@@ -105,6 +117,10 @@ public class SecurityTest {
                 .andExpect(jsonPath("$.error", is(nullValue())))
         ;
 
+        // 마지막 로그인 시각은 모았다가 반영하므로 직접 반영한 뒤 다시 조회한다
+        lastLoginTracker.flush();
+        entityManager.clear();
+
         Member member = memberRepository.findByUsername("test");
         assertThat(member.getLastLoginDate(), is(notNullValue()));
     }
@@ -119,7 +135,7 @@ public class SecurityTest {
                 .password(bCryptPasswordEncoder.encode("test1234!"))
                 .name("테스트")
                 .email("test1234@test.com")
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         LoginRequest request = LoginRequest.builder()
@@ -147,7 +163,7 @@ public class SecurityTest {
                 .password(bCryptPasswordEncoder.encode("test1234!"))
                 .name("테스트")
                 .email("test1234@test.com")
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         LoginRequest request = LoginRequest.builder()
@@ -175,7 +191,7 @@ public class SecurityTest {
                 .password(bCryptPasswordEncoder.encode("test1234!"))
                 .name("테스트")
                 .email("test1234@test.com")
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         LoginRequest request = LoginRequest.builder()
@@ -204,7 +220,7 @@ public class SecurityTest {
                 .password(bCryptPasswordEncoder.encode("test1234!"))
                 .name("테스트")
                 .email("test1234@test.com")
-                .roles("ROLE_MEMBER")
+                .roles(Roles.of(RoleType.MEMBER))
                 .build());
 
         LoginRequest request = LoginRequest.builder()
@@ -252,4 +268,141 @@ public class SecurityTest {
         ;
     }
 
+    @Test
+    @DisplayName("로그인 성공 - 캐시된 사용자, 마지막 로그인 시각 지연 반영, 비밀번호 변경 후 캐시 제거")
+    void test07() throws Exception {
+        Member member = memberRepository.save(Member.builder()
+                .username("cached")
+                .password(bCryptPasswordEncoder.encode("test1234!"))
+                .name("테스트")
+                .email("test1234@test.com")
+                .roles(Roles.of(RoleType.MEMBER))
+                .build());
+
+        LoginRequest request = LoginRequest.builder()
+                .username("cached")
+                .password("test1234!")
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            post("/login")
+                                    .content(objectMapper.writeValueAsBytes(request))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+        }
+
+        assertThat(userCache.getUserFromCache("cached"), is(notNullValue()));
+        assertThat(memberRepository.findByUsername("cached").getLastLoginDate(), is(nullValue()));
+
+        mockMvc.perform(
+                        get("/api/member/cache/stats")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andDo(document("{class-name}/{method-name}",
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("응답 코드"),
+                                fieldWithPath("response.size").type(JsonFieldType.NUMBER).description("캐시된 사용자 수"),
+                                fieldWithPath("response.hitCount").type(JsonFieldType.NUMBER).description("적중 횟수"),
+                                fieldWithPath("response.missCount").type(JsonFieldType.NUMBER).description("실패 횟수"),
+                                fieldWithPath("response.hitRate").type(JsonFieldType.NUMBER).description("적중률"),
+                                fieldWithPath("response.evictionCount").type(JsonFieldType.NUMBER).description("축출 횟수"),
+                                fieldWithPath("error").description("에러")
+                        )))
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.response.size", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.response.hitCount", greaterThanOrEqualTo(1)))
+        ;
+
+        lastLoginTracker.flush();
+        entityManager.clear();
+
+        assertThat(lastLoginTracker.pending("cached").isPresent(), is(false));
+        assertThat(memberRepository.findByUsername("cached").getLastLoginDate(), is(notNullValue()));
+
+        UpdateRequest updateRequest = UpdateRequest.builder()
+                .prevPassword("test1234!")
+                .newPassword("test5678!")
+                .build();
+
+        mockMvc.perform(
+                        put("/api/member/" + member.getId())
+                                .content(objectMapper.writeValueAsBytes(updateRequest))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())));
+
+        assertThat(userCache.getUserFromCache("cached"), is(nullValue()));
+
+        mockMvc.perform(
+                        post("/login")
+                                .content(objectMapper.writeValueAsBytes(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is(HttpStatus.UNAUTHORIZED.value())))
+        ;
+    }
+
+    @Test
+    @DisplayName("인가 성공 - 권한 마스크 저장, 토큰, 마스크 도입 전 토큰")
+    void test08() throws Exception {
+        memberRepository.save(Member.builder()
+                .username("masked")
+                .password(bCryptPasswordEncoder.encode("test1234!"))
+                .name("테스트")
+                .email("test1234@test.com")
+                .roles(Roles.of(RoleType.MEMBER))
+                .build());
+        entityManager.flush();
+
+        Object stored = entityManager
+                .createNativeQuery("SELECT roles FROM member WHERE username = 'masked'")
+                .getSingleResult();
+        assertThat(((Number) stored).intValue(), is(RoleType.MEMBER.getMask()));
+
+        LoginRequest request = LoginRequest.builder()
+                .username("masked")
+                .password("test1234!")
+                .build();
+
+        String body = mockMvc.perform(
+                        post("/login")
+                                .content(objectMapper.writeValueAsBytes(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(jsonPath("$.status", is(HttpStatus.OK.value())))
+                .andReturn().getResponse().getContentAsString();
+
+        String authorization = objectMapper.readTree(body).path("response").path("authorization").asText();
+        Integer mask = JWT.decode(authorization.replace("Bearer ", "")).getClaim("roles").asInt();
+        assertThat(mask, is(RoleType.MEMBER.getMask()));
+
+        mockMvc.perform(
+                        post("/test")
+                                .header("Authorization", authorization)
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // 마스크 도입 전에 발급된 문자열 권한 토큰도 만료 전까지는 그대로 인가된다
+        String legacy = "Bearer " + JWT.create()
+                .withSubject("masked")
+                .withExpiresAt(new Date(System.currentTimeMillis() + 1000 * 60))
+                .withClaim("username", "masked")
+                .withClaim("roles", "ROLE_MEMBER")
+                .sign(Algorithm.HMAC512("secret"));
+
+        mockMvc.perform(
+                        post("/test")
+                                .header("Authorization", legacy)
+                )
+                .andExpect(status().isOk());
+
+        assertThat(Roles.parse("ROLE_MEMBER"), is(sameInstance(Roles.of(mask))));
+        assertThat(Roles.of(RoleType.MEMBER, RoleType.ADMIN).getValue(), is("ROLE_MEMBER,ROLE_ADMIN"));
+    }
+
 }
@@ -2,6 +2,8 @@ package com.jbsapp.web.security.oauth2;
 
 import com.jbsapp.web.member.domain.Member;
 import com.jbsapp.web.member.repository.MemberRepository;
+import com.jbsapp.web.security.RoleType;
+import com.jbsapp.web.security.Roles;
 import com.jbsapp.web.security.auth.CustomUserDetails;
 import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +29,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 @ExtendWith(MockitoExtension.class)
 public class CustomOAuth2UserServiceTest {
@@ -68,7 +71,7 @@ public class CustomOAuth2UserServiceTest {
         assertThat(member.getEmail(), is("test@test.com"));
         assertThat(member.getProvider(), is("google"));
         assertThat(member.getProviderId(), is("1234"));
-        assertThat(member.getRoles(), is("ROLE_MEMBER"));
+        assertThat(member.getRoles(), is(sameInstance(Roles.of(RoleType.MEMBER))));
     }
 
     @Test
@@ -101,7 +104,7 @@ public class CustomOAuth2UserServiceTest {
         assertThat(member.getEmail(), is("test@test.com"));
         assertThat(member.getProvider(), is("naver"));
         assertThat(member.getProviderId(), is("1234"));
-        assertThat(member.getRoles(), is("ROLE_MEMBER"));
+        assertThat(member.getRoles(), is(sameInstance(Roles.of(RoleType.MEMBER))));
     }
 
     @Test
@@ -135,7 +138,7 @@ public class CustomOAuth2UserServiceTest {
         assertThat(member.getEmail(), is("test@test.com"));
         assertThat(member.getProvider(), is("kakao"));
         assertThat(member.getProviderId(), is("1234"));
-        assertThat(member.getRoles(), is("ROLE_MEMBER"));
+        assertThat(member.getRoles(), is(sameInstance(Roles.of(RoleType.MEMBER))));
     }
 
     private OAuth2UserRequest getMockUserRequest(String provider) {